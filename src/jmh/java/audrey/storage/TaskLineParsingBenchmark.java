@@ -0,0 +1,81 @@
+package audrey.storage;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import audrey.task.List;
+import audrey.task.TaskClock;
+
+/**
+ * Compares the single-pass {@link TaskLineLexer} against the regex parsers it replaced, which are
+ * kept with the tests. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskLineParsingBenchmark {
+    private static final String[] LINES = {
+        "[T][ ] read book",
+        "[T][X] buy groceries for the week",
+        "[D][ ] return book (by:2025-10-15)",
+        "[D][X] submit quarterly report (by:2025-12-31)",
+        "[E][ ] project meeting (from:2025-10-15 to:2025-10-16)",
+        "[E][X] family trip (from:2025-12-20 to:2025-12-28)",
+    };
+
+    private TaskLineLexer lexer;
+    private TodoParser todoParser;
+    private DeadlineParser deadlineParser;
+    private EventParser eventParser;
+
+    /** Fixes the clock and creates the parsers once per benchmark run. */
+    @Setup
+    public void setUp() {
+        TaskClock.useFixedDate(LocalDate.parse("2025-10-01"));
+        List toDoList = new List();
+        lexer = new TaskLineLexer(toDoList);
+        todoParser = new TodoParser(toDoList);
+        deadlineParser = new DeadlineParser(toDoList);
+        eventParser = new EventParser(toDoList);
+    }
+
+    /**
+     * Parses every sample line with the lexer.
+     *
+     * @param blackhole sink that keeps the parsed tasks alive
+     */
+    @Benchmark
+    public void lexer(Blackhole blackhole) {
+        for (String line : LINES) {
+            blackhole.consume(lexer.parse(line));
+        }
+    }
+
+    /**
+     * Parses every sample line the way the loader did before the lexer: up to three
+     * {@code String.matches} calls to find the type, then a fresh pattern match to extract fields.
+     *
+     * @param blackhole sink that keeps the parsed tasks alive
+     */
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String line : LINES) {
+            if (TodoParser.isTodoLine(line)) {
+                blackhole.consume(todoParser.parse(line));
+            } else if (DeadlineParser.isDeadlineLine(line)) {
+                blackhole.consume(deadlineParser.parse(line));
+            } else if (EventParser.isEventLine(line)) {
+                blackhole.consume(eventParser.parse(line));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package audrey.task;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link MessageTemplate} against the {@code String.format} calls it replaced, for the
+ * task line and the confirmation of an added task. Run with {@code ./gradlew jmh}; the gc
+ * profiler reports the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageTemplateBenchmark {
+    private static final String TASK_ADDED_FORMAT =
+            "Got it. I've added this task:\n   %s\n" + "Now you have %s tasks in the list.";
+    private static final MessageTemplate TASK_ADDED_TEMPLATE =
+            MessageTemplate.compile(TASK_ADDED_FORMAT);
+    private static final String EVENT_FORMAT = "[E]%s (from:%s to:%s)";
+    private static final MessageTemplate EVENT_TEMPLATE = MessageTemplate.compile(EVENT_FORMAT);
+
+    private String taskLine;
+    private String status;
+    private String from;
+    private String to;
+    private int count;
+
+    /** Prepares the arguments once per benchmark run. */
+    @Setup
+    public void setUp() {
+        TaskClock.useFixedDate(LocalDate.parse("2025-10-01"));
+        taskLine = Event.of("project meeting", LocalDate.parse("2025-10-15"),
+                LocalDate.parse("2025-10-16"), false, null).toString();
+        status = "[ ] project meeting";
+        from = "2025-10-15";
+        to = "2025-10-16";
+        count = 1234;
+    }
+
+    /**
+     * Builds an event line and an added-task message with {@code String.format}.
+     *
+     * @param blackhole sink that keeps the messages alive
+     */
+    @Benchmark
+    public void stringFormat(Blackhole blackhole) {
+        blackhole.consume(String.format(EVENT_FORMAT, status, from, to));
+        blackhole.consume(String.format(TASK_ADDED_FORMAT, taskLine, count));
+    }
+
+    /**
+     * Builds an event line and an added-task message with compiled templates.
+     *
+     * @param blackhole sink that keeps the messages alive
+     */
+    @Benchmark
+    public void template(Blackhole blackhole) {
+        blackhole.consume(EVENT_TEMPLATE.fill(status, from, to));
+        blackhole.consume(TASK_ADDED_TEMPLATE.fill(taskLine, count));
+    }
+
+    /**
+     * Adds a task, marks and unmarks it, and deletes it again, which builds four confirmation
+     * messages through the list.
+     *
+     * @param blackhole sink that keeps the messages alive
+     */
+    @Benchmark
+    public void listCommands(Blackhole blackhole) {
+        List toDoList = new List();
+        blackhole.consume(toDoList.addToDos("read book"));
+        blackhole.consume(toDoList.markTask(1));
+        blackhole.consume(toDoList.unmarkTask(1));
+        blackhole.consume(toDoList.delete(1));
+    }
+}
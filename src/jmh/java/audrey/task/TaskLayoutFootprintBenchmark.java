@@ -0,0 +1,113 @@
+package audrey.task;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the memory cost of the two {@link TaskLayout}s. The benchmark builds a list of mixed
+ * tasks; run it with {@code ./gradlew jmh}, where the gc profiler reports bytes allocated per
+ * build. {@link #main(String[])} reports the heap each layout retains per task, which is the number that
+ * matters for a long-lived list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskLayoutFootprintBenchmark {
+    private static final LocalDate BASE_DATE = LocalDate.parse("2025-10-01");
+
+    @Param({"OBJECTS", "COLUMNS"})
+    private TaskLayout layout;
+
+    @Param({"10000"})
+    private int taskCount;
+
+    /** Fixes the clock so snoozes and deadlines do not depend on the day the benchmark runs. */
+    @Setup
+    public void setUp() {
+        TaskClock.useFixedDate(BASE_DATE);
+    }
+
+    /**
+     * Builds a list of mixed tasks in the benchmarked layout.
+     *
+     * @return the list, returned so it is not optimised away
+     */
+    @Benchmark
+    public List build() {
+        return buildList(layout, taskCount);
+    }
+
+    /**
+     * Builds a list of todos, deadlines and events, a few of them marked or snoozed.
+     *
+     * @param layout layout to build the list in
+     * @param taskCount number of tasks to add
+     * @return the built list
+     */
+    private static List buildList(TaskLayout layout, int taskCount) {
+        List toDoList = new List(layout);
+        for (int i = 0; i < taskCount; i++) {
+            LocalDate date = BASE_DATE.plusDays(i % 365);
+            switch (i % 3) {
+            case 0:
+                toDoList.addToDos("read chapter " + i);
+                break;
+            case 1:
+                toDoList.addDeadline("submit report " + i + " /by " + date);
+                break;
+            default:
+                toDoList.addEvent("project meeting " + i + " /from " + date + " /to "
+                        + date.plusDays(2));
+                break;
+            }
+            if (i % 5 == 0) {
+                toDoList.markTask(i + 1);
+            } else if (i % 7 == 0) {
+                toDoList.snoozeTaskUntil(i + 1, date.toString());
+            }
+        }
+        return toDoList;
+    }
+
+    /**
+     * Prints the heap retained per task by each layout.
+     *
+     * @param args optional task count
+     * @throws InterruptedException if interrupted while waiting for garbage collection
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        TaskClock.useFixedDate(BASE_DATE);
+        for (TaskLayout layout : TaskLayout.values()) {
+            long before = usedHeap();
+            List toDoList = buildList(layout, taskCount);
+            long after = usedHeap();
+            System.out.printf("%-8s %,d tasks: %.1f bytes per task%n", layout, toDoList.size(),
+                    (double) (after - before) / taskCount);
+        }
+    }
+
+    /**
+     * Measures the heap in use after a few rounds of garbage collection.
+     *
+     * @return used heap in bytes
+     * @throws InterruptedException if interrupted while waiting for garbage collection
+     */
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
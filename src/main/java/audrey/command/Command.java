@@ -1,5 +1,7 @@
 package audrey.command;
 
+import audrey.parser.InputTokenizer;
+
 /** Enum mapping user-entered command strings to strongly-typed command identifiers. */
 public enum Command {
     BYE("bye"),
@@ -11,6 +13,9 @@ public enum Command {
     EVENT("event"),
     DELETE("delete"),
     FIND("find"),
+    DUE("due"),
+    AGENDA("agenda"),
+    CONFLICTS("conflicts"),
     SNOOZE("snooze"),
     UNSNOOZE("unsnooze"),
     HELP("help");
@@ -28,12 +33,66 @@ public enum Command {
      * @return matching command, or {@code null} if no match is found
      */
     public static Command fromString(String input) {
-        for (Command cmd : Command.values()) {
-            if (cmd.commandString.equalsIgnoreCase(input)) {
-                return cmd;
-            }
+        return input == null ? null : fromToken(input);
+    }
+
+    /**
+     * Resolves a command token, ignoring case, without creating any string. The token's first
+     * letter and length pick the only command it can be, which is then compared letter by letter.
+     *
+     * @param token command token from user input
+     * @return matching command, or {@code null} if no match is found
+     */
+    public static Command fromToken(CharSequence token) {
+        assert token != null : "Command token cannot be null";
+
+        if (token.length() == 0) {
+            return null;
+        }
+        Command candidate = candidateFor(Character.toLowerCase(token.charAt(0)), token.length());
+        if (candidate == null
+                || !InputTokenizer.contentEqualsIgnoreCase(token, candidate.commandString)) {
+            return null; // Invalid command
+        }
+        return candidate;
+    }
+
+    /**
+     * Picks the only command that starts with a letter and has a length.
+     *
+     * @param firstLetter lower-case first letter of the token
+     * @param length length of the token
+     * @return the command the token can be, or {@code null} if there is none
+     */
+    private static Command candidateFor(char firstLetter, int length) {
+        switch (firstLetter) {
+        case 'a':
+            return AGENDA;
+        case 'b':
+            return BYE;
+        case 'c':
+            return CONFLICTS;
+        case 'd':
+            return length == 3 ? DUE : length == 6 ? DELETE : DEADLINE;
+        case 'e':
+            return EVENT;
+        case 'f':
+            return FIND;
+        case 'h':
+            return HELP;
+        case 'l':
+            return LIST;
+        case 'm':
+            return MARK;
+        case 's':
+            return SNOOZE;
+        case 't':
+            return TODO;
+        case 'u':
+            return length == 6 ? UNMARK : UNSNOOZE;
+        default:
+            return null;
         }
-        return null; // Invalid command
     }
 
     /** @return canonical string version of the command */
@@ -53,7 +53,7 @@ public class FindCommand extends BaseCommand {
             resultBuilder.append("Here are the matching tasks in your list:\n");
 
             for (int i = 0; i < foundTasks.size(); i++) {
-                resultBuilder.append(String.format("%d. %s\n", i + 1, foundTasks.get(i)));
+                resultBuilder.append(i + 1).append(". ").append(foundTasks.get(i)).append('\n');
             }
 
             String findResult = resultBuilder.toString().trim();
@@ -0,0 +1,50 @@
+package audrey.parser;
+
+import java.time.LocalDate;
+import java.util.Scanner;
+
+import audrey.task.List;
+import audrey.task.TaskClock;
+
+/**
+ * Parser that lists the deadlines and events of the coming days for {@code agenda} commands. The
+ * agenda for {@code n} days covers today and the {@code n - 1} days after it.
+ */
+public class AgendaCommandParser extends DueCommandParser {
+    private static final int DEFAULT_AGENDA_DAYS = 7;
+    private static final int MAX_AGENDA_DAYS = 3660;
+
+    /**
+     * Builds a parser that looks up dated tasks in the coming days.
+     *
+     * @param toDoList backing task list to query
+     * @param scanner  scanner providing raw user input
+     */
+    public AgendaCommandParser(List toDoList, Scanner scanner) {
+        super(toDoList, scanner);
+    }
+
+    /**
+     * Executes an agenda command for the given number of days, or a week when none is given.
+     *
+     * @param input tokenised user input with an optional number of days
+     * @return formatted tasks in the coming days or validation feedback
+     */
+    @Override
+    public String execute(InputTokenizer input) {
+        long days = DEFAULT_AGENDA_DAYS;
+        if (input.hasArguments()) {
+            CharSequence daysStr = input.arguments();
+            days = InputTokenizer.parseInt(daysStr);
+            if (days <= 0 || days > MAX_AGENDA_DAYS) {
+                String errorMsg = "Invalid number of days: '" + daysStr
+                        + "'. Usage: agenda [1-" + MAX_AGENDA_DAYS + "]";
+                print(errorMsg);
+                return errorMsg;
+            }
+        }
+
+        LocalDate today = TaskClock.today();
+        return showTasksBetween(today, today.plusDays(days - 1));
+    }
+}
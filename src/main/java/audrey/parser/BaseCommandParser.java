@@ -1,5 +1,6 @@
 package audrey.parser;
 
+import java.time.LocalDate;
 import java.util.Scanner;
 
 import audrey.task.List;
@@ -21,14 +22,8 @@ public abstract class BaseCommandParser {
     ____________________________________________________________________
         """;
 
-    // Constants for date format
-    protected static final String DATE_PATTERN = "\\d{4}-\\d{2}-\\d{2}";
-
-    // Constants for array operations
-    protected static final int SPLIT_LIMIT_TWO = 2;
-    protected static final int COMMAND_INDEX = 0;
+    // Index of the first argument token; token 0 is the command
     protected static final int ARGS_INDEX = 1;
-    protected static final int MIN_ARGS_LENGTH = 2;
 
     protected final List toDoList;
     protected final Scanner scanner;
@@ -50,21 +45,20 @@ public abstract class BaseCommandParser {
     /**
      * Abstract method to be implemented by concrete command parsers.
      *
-     * @param processedInput The processed input array [command, args]
+     * @param input The tokenized input; token 0 is the command, the rest are its arguments
      * @return The result message from executing the command
      */
-    public abstract String execute(String[] processedInput);
+    public abstract String execute(InputTokenizer input);
 
     /**
-     * Validates that the processed input has the minimum required arguments.
+     * Validates that the input has at least one argument after the command.
      *
-     * @param processedInput The input to validate
-     * @param errorMessage   The error message to return if validation fails
+     * @param input        The input to validate
+     * @param errorMessage The error message to return if validation fails
      * @return Error message if validation fails, null if successful
      */
-    protected String validateMinimumArgs(String[] processedInput, String errorMessage) {
-        if (processedInput.length < MIN_ARGS_LENGTH
-                || processedInput[ARGS_INDEX].trim().isEmpty()) {
+    protected String validateMinimumArgs(InputTokenizer input, String errorMessage) {
+        if (!input.hasArguments()) {
             print(errorMessage);
             return errorMessage;
         }
@@ -72,34 +66,86 @@ public abstract class BaseCommandParser {
     }
 
     /**
-     * Validates a task number string.
+     * Validates a task number.
      *
-     * @param numberStr The task number string to validate
+     * @param numberStr The task number text to validate
      * @return Error message if validation fails, null if successful
      */
-    protected String validateTaskNumber(String numberStr) {
-        try {
-            int taskNumber = Integer.parseInt(numberStr);
-            if (taskNumber <= 0) {
-                String errorMsg = "Task number must be a positive integer.";
-                print(errorMsg);
-                return errorMsg;
-            }
-            if (taskNumber > toDoList.size()) {
-                String errorMsg = "Task number "
-                        + taskNumber
-                        + " does not exist. You have "
-                        + toDoList.size()
-                        + " tasks.";
-                print(errorMsg);
-                return errorMsg;
-            }
-            return null;
-        } catch (NumberFormatException e) {
-            String errorMsg = "Invalid task number: '" + numberStr + "'. Please enter a valid number.";
+    protected String validateTaskNumber(CharSequence numberStr) {
+        return validateNumberInRange(numberStr, toDoList.size(), " tasks.");
+    }
+
+    /**
+     * Validates a task number as shown by {@code list}, which numbers only active tasks.
+     *
+     * @param numberStr The task number text to validate
+     * @return Error message if validation fails, null if successful
+     */
+    protected String validateListedTaskNumber(CharSequence numberStr) {
+        return validateNumberInRange(numberStr, toDoList.activeSize(), " active tasks.");
+    }
+
+    /**
+     * Validates that a task number is between 1 and a task count.
+     *
+     * @param numberStr The task number text to validate
+     * @param taskCount The highest valid task number
+     * @param countSuffix Text following the task count in the out-of-range message
+     * @return Error message if validation fails, null if successful
+     */
+    private String validateNumberInRange(CharSequence numberStr, int taskCount,
+            String countSuffix) {
+        long taskNumber = InputTokenizer.parseInt(numberStr);
+        String errorMsg = null;
+        if (taskNumber == InputTokenizer.NOT_A_NUMBER) {
+            errorMsg = "Invalid task number: '" + numberStr + "'. Please enter a valid number.";
+        } else if (taskNumber <= 0) {
+            errorMsg = "Task number must be a positive integer.";
+        } else if (taskNumber > taskCount) {
+            errorMsg = "Task number " + taskNumber + " does not exist. You have " + taskCount
+                    + countSuffix;
+        }
+        if (errorMsg != null) {
             print(errorMsg);
-            return errorMsg;
         }
+        return errorMsg;
+    }
+
+    /**
+     * Parses a task number that has already been validated.
+     *
+     * @param numberStr The task number text
+     * @return The task number
+     */
+    protected static int parseTaskNumber(CharSequence numberStr) {
+        long taskNumber = InputTokenizer.parseInt(numberStr);
+        assert taskNumber != InputTokenizer.NOT_A_NUMBER : "Task number should be validated";
+        return (int) taskNumber;
+    }
+
+    /**
+     * Parses a {@code YYYY-MM-DD} date.
+     *
+     * @param dateStr date text to parse
+     * @return parsed date, or null if the text is not a valid date
+     */
+    protected LocalDate parseDate(CharSequence dateStr) {
+        return InputTokenizer.parseDate(dateStr);
+    }
+
+    /**
+     * Counts the non-overlapping occurrences of a marker in a text.
+     *
+     * @param text   The text to search
+     * @param marker The marker to count
+     * @return Number of occurrences
+     */
+    protected static int countOccurrences(String text, String marker) {
+        int count = 0;
+        for (int i = text.indexOf(marker); i >= 0; i = text.indexOf(marker, i + marker.length())) {
+            count++;
+        }
+        return count;
     }
 
     /**
@@ -113,7 +159,7 @@ public abstract class BaseCommandParser {
             return "";
         }
 
-        String cleaned = description.replaceAll("[\\x00-\\x08\\x0B\\x0C\\x0E-\\x1F\\x7F]", "");
+        String cleaned = removeControlCharacters(description);
 
         if (cleaned.length() > MAX_DESCRIPTION_LENGTH) {
             print("Warning: Description truncated to " + MAX_DESCRIPTION_LENGTH + " characters.");
@@ -123,6 +169,27 @@ public abstract class BaseCommandParser {
         return cleaned.trim();
     }
 
+    /**
+     * Removes control characters other than line breaks, returning the text itself when it has
+     * none, which is the usual case.
+     *
+     * @param text The text to clean
+     * @return The text without control characters
+     */
+    private static String removeControlCharacters(String text) {
+        StringBuilder cleaned = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean isControl = (c < ' ' && c != '\t' && c != '\n' && c != '\r') || c == '\u007F';
+            if (isControl && cleaned == null) {
+                cleaned = new StringBuilder(text.length()).append(text, 0, i);
+            } else if (!isControl && cleaned != null) {
+                cleaned.append(c);
+            }
+        }
+        return cleaned == null ? text : cleaned.toString();
+    }
+
     /**
      * Prints a message with proper formatting.
      *
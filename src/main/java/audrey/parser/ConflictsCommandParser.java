@@ -0,0 +1,150 @@
+package audrey.parser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Scanner;
+
+import audrey.task.Event;
+import audrey.task.List;
+import audrey.task.Task;
+
+/**
+ * Parser that reports clashing events for {@code conflicts} commands. Without arguments it lists
+ * every pair of overlapping events; {@code conflicts <number>} lists the events overlapping one
+ * event and {@code conflicts <from> <to>} the events overlapping a date range.
+ */
+public class ConflictsCommandParser extends BaseCommandParser {
+    private static final String USAGE_MSG =
+            "Usage: conflicts, conflicts [event number] or conflicts YYYY-MM-DD YYYY-MM-DD";
+
+    /**
+     * Builds a parser that looks up overlapping events.
+     *
+     * @param toDoList backing task list to query
+     * @param scanner  scanner providing raw user input
+     */
+    public ConflictsCommandParser(List toDoList, Scanner scanner) {
+        super(toDoList, scanner);
+    }
+
+    /**
+     * Parses and executes a conflicts command.
+     *
+     * @param input tokenised user input with an optional event number or date range
+     * @return formatted overlapping events or validation feedback
+     */
+    @Override
+    public String execute(InputTokenizer input) {
+        int argCount = input.tokenCount() - ARGS_INDEX;
+        if (argCount == 0) {
+            return handleAllConflicts();
+        }
+        if (argCount == 1) {
+            return handleEventConflicts(input.token(ARGS_INDEX));
+        }
+        if (argCount == 2) {
+            return handleRangeConflicts(input.token(ARGS_INDEX), input.token(ARGS_INDEX + 1));
+        }
+
+        print(USAGE_MSG);
+        return USAGE_MSG;
+    }
+
+    /**
+     * Lists every pair of overlapping events.
+     *
+     * @return formatted pairs or a message saying there are none
+     */
+    private String handleAllConflicts() {
+        ArrayList<Event[]> conflicts = toDoList.findEventConflicts();
+        if (conflicts.isEmpty()) {
+            String noConflictMsg = "No clashing events!";
+            print(noConflictMsg);
+            return noConflictMsg;
+        }
+
+        StringBuilder resultBuilder = new StringBuilder("Here are the clashing events:\n");
+        for (int i = 0; i < conflicts.size(); i++) {
+            resultBuilder.append(String.format("%d. %s\n   clashes with %s\n",
+                    i + 1, conflicts.get(i)[0], conflicts.get(i)[1]));
+        }
+
+        String conflictResult = resultBuilder.toString().trim();
+        print(conflictResult);
+        return conflictResult;
+    }
+
+    /**
+     * Lists the events overlapping the event with the given number.
+     *
+     * @param numberStr task number of the event as shown by {@code list}
+     * @return formatted overlapping events or validation feedback
+     */
+    private String handleEventConflicts(CharSequence numberStr) {
+        String taskValidationError = validateListedTaskNumber(numberStr);
+        if (taskValidationError != null) {
+            return taskValidationError;
+        }
+
+        Task task = toDoList.getTask(toDoList.toStorageIndex(parseTaskNumber(numberStr)) - 1);
+        if (!(task instanceof Event)) {
+            String errorMsg = "Task " + numberStr + " is not an event.";
+            print(errorMsg);
+            return errorMsg;
+        }
+
+        Event event = (Event) task;
+        return formatEvents(toDoList.findClashingEvents(event), "Here are the events clashing with " + event + ":\n",
+                "No events clash with " + event);
+    }
+
+    /**
+     * Lists the events overlapping a date range.
+     *
+     * @param fromStr first date of the range
+     * @param toStr   last date of the range
+     * @return formatted overlapping events or validation feedback
+     */
+    private String handleRangeConflicts(CharSequence fromStr, CharSequence toStr) {
+        LocalDate from = parseDate(fromStr);
+        LocalDate to = parseDate(toStr);
+        if (from == null || to == null) {
+            String errorMsg = "Invalid Format for date";
+            print(errorMsg);
+            return errorMsg;
+        }
+        if (from.isAfter(to)) {
+            String errorMsg = "Start date " + from + " cannot be after end date " + to + ".";
+            print(errorMsg);
+            return errorMsg;
+        }
+
+        return formatEvents(toDoList.findOverlappingEvents(from, to),
+                "Here are the events between " + from + " and " + to + ":\n",
+                "No events between " + from + " and " + to + ".");
+    }
+
+    /**
+     * Formats a numbered list of events.
+     *
+     * @param events  events to list
+     * @param header  header shown above the events
+     * @param noneMsg message shown when there are no events
+     * @return formatted events or the message for none
+     */
+    private String formatEvents(ArrayList<Event> events, String header, String noneMsg) {
+        if (events.isEmpty()) {
+            print(noneMsg);
+            return noneMsg;
+        }
+
+        StringBuilder resultBuilder = new StringBuilder(header);
+        for (int i = 0; i < events.size(); i++) {
+            resultBuilder.append(String.format("%d. %s\n", i + 1, events.get(i)));
+        }
+
+        String conflictResult = resultBuilder.toString().trim();
+        print(conflictResult);
+        return conflictResult;
+    }
+}
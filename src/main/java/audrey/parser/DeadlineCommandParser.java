@@ -6,6 +6,7 @@ import audrey.task.List;
 
 /** Parser that creates deadline tasks from {@code deadline} commands. */
 public class DeadlineCommandParser extends BaseCommandParser {
+    private static final String BY_MARKER = "/by";
 
     /**
      * Builds a parser capable of validating and adding deadline tasks.
@@ -21,23 +22,24 @@ public class DeadlineCommandParser extends BaseCommandParser {
      * Parses and executes a deadline command, ensuring both description and due date
      * are supplied before creating the task.
      *
-     * @param processedInput tokenised user input containing description and `/by`
+     * @param input tokenised user input containing description and `/by`
      * @return status message from the task list after attempting the addition
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput,
+                input,
                 "Deadline description cannot be empty. Usage: deadline [description] /by [date]");
         if (validationError != null) {
             return validationError;
         }
 
-        String fullDescription = processedInput[ARGS_INDEX].trim();
+        String fullDescription = input.arguments().toString();
 
         // Validate /by format
-        if (!fullDescription.contains("/by")) {
+        int byIndex = fullDescription.indexOf(BY_MARKER);
+        if (byIndex < 0) {
             String errorMsg = "Deadline must include '/by [date]'. "
                     + "Usage: deadline [description] /by [YYYY-MM-DD]";
             print(errorMsg);
@@ -45,21 +47,14 @@ public class DeadlineCommandParser extends BaseCommandParser {
         }
 
         // Check for multiple /by occurrences
-        if (fullDescription.split("/by").length > 2) {
+        if (countOccurrences(fullDescription, BY_MARKER) > 1) {
             String errorMsg = "Multiple '/by' found. Please use '/by' only once.";
             print(errorMsg);
             return errorMsg;
         }
 
-        String[] parts = fullDescription.split("/by", 2);
-        if (parts.length != 2) {
-            String errorMsg = "Invalid deadline format. " + "Usage: deadline [description] /by [YYYY-MM-DD]";
-            print(errorMsg);
-            return errorMsg;
-        }
-
-        String description = parts[0].trim();
-        String dateStr = parts[1].trim();
+        String description = fullDescription.substring(0, byIndex).trim();
+        String dateStr = fullDescription.substring(byIndex + BY_MARKER.length()).trim();
 
         if (description.isEmpty()) {
             String errorMsg = "Deadline description cannot be empty.";
@@ -74,7 +69,7 @@ public class DeadlineCommandParser extends BaseCommandParser {
         }
 
         // Validate date format
-        if (!dateStr.matches(DATE_PATTERN)) {
+        if (!InputTokenizer.isDateShaped(dateStr)) {
             String errorMsg = "Invalid date format: '" + dateStr + "'. Use YYYY-MM-DD format.";
             print(errorMsg);
             return errorMsg;
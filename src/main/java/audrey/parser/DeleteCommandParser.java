@@ -20,29 +20,29 @@ public class DeleteCommandParser extends BaseCommandParser {
     /**
      * Executes the delete command by validating the task number and removing the task.
      *
-     * @param processedInput tokenised user input containing the task index
+     * @param input tokenised user input containing the task index
      * @return user-facing result describing the outcome
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput,
+                input,
                 "Delete requires a task number. Usage: delete [task number]");
         if (validationError != null) {
             return validationError;
         }
 
-        String numberStr = processedInput[ARGS_INDEX].trim();
+        CharSequence numberStr = input.arguments();
 
         // Validate task number
-        String taskValidationError = validateTaskNumber(numberStr);
+        String taskValidationError = validateListedTaskNumber(numberStr);
         if (taskValidationError != null) {
             return taskValidationError;
         }
 
         try {
-            int taskNumber = Integer.parseInt(numberStr);
+            int taskNumber = toDoList.toStorageIndex(parseTaskNumber(numberStr));
             String deleteResult = toDoList.delete(taskNumber);
             print(deleteResult);
             return deleteResult;
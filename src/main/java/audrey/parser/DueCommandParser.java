@@ -0,0 +1,95 @@
+package audrey.parser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Scanner;
+
+import audrey.task.List;
+import audrey.task.Task;
+
+/** Parser that lists deadlines and events falling between two dates for {@code due} commands. */
+public class DueCommandParser extends BaseCommandParser {
+    private static final String USAGE_MSG =
+            "Due requires two dates. Usage: due YYYY-MM-DD YYYY-MM-DD";
+
+    /**
+     * Builds a parser that looks up dated tasks in a range.
+     *
+     * @param toDoList backing task list to query
+     * @param scanner  scanner providing raw user input
+     */
+    public DueCommandParser(List toDoList, Scanner scanner) {
+        super(toDoList, scanner);
+    }
+
+    /**
+     * Parses and executes a due command, returning the deadlines due and events starting in the
+     * range.
+     *
+     * @param input tokenised user input containing the two dates
+     * @return formatted tasks in the range or validation feedback
+     */
+    @Override
+    public String execute(InputTokenizer input) {
+        String validationError = validateMinimumArgs(input, USAGE_MSG);
+        if (validationError != null) {
+            return validationError;
+        }
+
+        if (input.tokenCount() != ARGS_INDEX + 2) {
+            print(USAGE_MSG);
+            return USAGE_MSG;
+        }
+
+        LocalDate from = parseDate(input.token(ARGS_INDEX));
+        LocalDate to = parseDate(input.token(ARGS_INDEX + 1));
+        if (from == null || to == null) {
+            String errorMsg = "Invalid Format for date";
+            print(errorMsg);
+            return errorMsg;
+        }
+        if (from.isAfter(to)) {
+            String errorMsg = "Start date " + from + " cannot be after end date " + to + ".";
+            print(errorMsg);
+            return errorMsg;
+        }
+
+        return showTasksBetween(from, to);
+    }
+
+    /**
+     * Formats the deadlines and events falling between two dates.
+     *
+     * @param from first date of the range
+     * @param to   last date of the range, inclusive
+     * @return numbered tasks in the range or a message saying there are none
+     */
+    protected String showTasksBetween(LocalDate from, LocalDate to) {
+        try {
+            ArrayList<Task> foundTasks = toDoList.findTasksBetween(from, to);
+
+            if (foundTasks.isEmpty()) {
+                String noMatchMsg = "No deadlines or events between " + from + " and " + to + ".";
+                print(noMatchMsg);
+                return noMatchMsg;
+            }
+
+            StringBuilder resultBuilder = new StringBuilder();
+            resultBuilder.append("Here are the tasks between ")
+                    .append(from).append(" and ").append(to).append(":\n");
+
+            for (int i = 0; i < foundTasks.size(); i++) {
+                resultBuilder.append(String.format("%d. %s\n", i + 1, foundTasks.get(i)));
+            }
+
+            String dueResult = resultBuilder.toString().trim();
+            print(dueResult);
+            return dueResult;
+
+        } catch (Exception e) {
+            String errorMsg = "Error finding tasks: " + e.getMessage();
+            print(errorMsg);
+            return errorMsg;
+        }
+    }
+}
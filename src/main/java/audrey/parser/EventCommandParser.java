@@ -1,11 +1,15 @@
 package audrey.parser;
 
+import java.util.ArrayList;
 import java.util.Scanner;
 
+import audrey.task.Event;
 import audrey.task.List;
 
 /** Parser that creates events from {@code event} commands. */
 public class EventCommandParser extends BaseCommandParser {
+    private static final String FROM_MARKER = "/from";
+    private static final String TO_MARKER = "/to";
 
     /**
      * Builds a parser that validates and adds event tasks with start and end dates.
@@ -21,62 +25,55 @@ public class EventCommandParser extends BaseCommandParser {
      * Parses and executes an event command, ensuring the description, start, and
      * end dates are present before creating the task.
      *
-     * @param processedInput tokenised user input containing description and
-     *                       timing sections
+     * @param input tokenised user input containing description and
+     *              timing sections
      * @return status message from the task list after attempting the addition
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput,
+                input,
                 "Event description cannot be empty. Usage: event [description] /from [start] /to [end]");
         if (validationError != null) {
             return validationError;
         }
 
-        String fullDescription = processedInput[ARGS_INDEX].trim();
+        String fullDescription = input.arguments().toString();
 
         // Validate /from and /to format
-        if (!fullDescription.contains("/from") || !fullDescription.contains("/to")) {
+        int fromIndex = fullDescription.indexOf(FROM_MARKER);
+        if (fromIndex < 0 || !fullDescription.contains(TO_MARKER)) {
             String errorMsg = "Event must include '/from [date]'";
             print(errorMsg);
             return errorMsg;
         }
 
         // Check for multiple /from or /to occurrences
-        if (fullDescription.split("/from").length > 2) {
+        if (countOccurrences(fullDescription, FROM_MARKER) > 1) {
             String errorMsg = "Multiple '/from' found. Please use '/from' only once.";
             print(errorMsg);
             return errorMsg;
         }
 
-        if (fullDescription.split("/to").length > 2) {
+        if (countOccurrences(fullDescription, TO_MARKER) > 1) {
             String errorMsg = "Multiple '/to' found. Please use '/to' only once.";
             print(errorMsg);
             return errorMsg;
         }
 
         // Parse the description with /from and /to
-        String[] fromSplit = fullDescription.split("/from", 2);
-        if (fromSplit.length != 2) {
-            String errorMsg = "Invalid event format. Missing '/from' section.";
-            print(errorMsg);
-            return errorMsg;
-        }
-
-        String description = fromSplit[0].trim();
-        String remainingPart = fromSplit[1].trim();
-
-        String[] toSplit = remainingPart.split("/to", 2);
-        if (toSplit.length != 2) {
+        String description = fullDescription.substring(0, fromIndex).trim();
+        int toIndex = fullDescription.indexOf(TO_MARKER, fromIndex + FROM_MARKER.length());
+        if (toIndex < 0) {
             String errorMsg = "Invalid event format. Missing '/to' section.";
             print(errorMsg);
             return errorMsg;
         }
 
-        String startDateStr = toSplit[0].trim();
-        String endDateStr = toSplit[1].trim();
+        String startDateStr = fullDescription.substring(fromIndex + FROM_MARKER.length(), toIndex)
+                .trim();
+        String endDateStr = fullDescription.substring(toIndex + TO_MARKER.length()).trim();
 
         if (description.isEmpty()) {
             String errorMsg = "Event description cannot be empty.";
@@ -97,13 +94,13 @@ public class EventCommandParser extends BaseCommandParser {
         }
 
         // Validate date format
-        if (!startDateStr.matches(DATE_PATTERN)) {
+        if (!InputTokenizer.isDateShaped(startDateStr)) {
             String errorMsg = "Invalid start date format: '" + startDateStr + "'. Use YYYY-MM-DD format.";
             print(errorMsg);
             return errorMsg;
         }
 
-        if (!endDateStr.matches(DATE_PATTERN)) {
+        if (!InputTokenizer.isDateShaped(endDateStr)) {
             String errorMsg = "Invalid end date format: '" + endDateStr + "'. Use YYYY-MM-DD format.";
             print(errorMsg);
             return errorMsg;
@@ -118,8 +115,12 @@ public class EventCommandParser extends BaseCommandParser {
         }
 
         try {
+            int sizeBeforeAdd = toDoList.size();
             String eventResult = toDoList.addEvent(
                     cleanedDescription + " /from " + startDateStr + " /to " + endDateStr);
+            if (toDoList.size() > sizeBeforeAdd) {
+                eventResult += getClashWarning((Event) toDoList.getTask(toDoList.size() - 1));
+            }
             print(eventResult);
             return eventResult;
 
@@ -129,4 +130,23 @@ public class EventCommandParser extends BaseCommandParser {
             return errorMsg;
         }
     }
+
+    /**
+     * Builds a warning listing the existing events that overlap a newly added event.
+     *
+     * @param addedEvent event that was just added
+     * @return warning to append to the confirmation, or an empty string if nothing clashes
+     */
+    private String getClashWarning(Event addedEvent) {
+        ArrayList<Event> overlapping = toDoList.findClashingEvents(addedEvent);
+        if (overlapping.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder warningBuilder = new StringBuilder("\nWarning: this event clashes with:");
+        for (Event event : overlapping) {
+            warningBuilder.append("\n   ").append(event);
+        }
+        return warningBuilder.toString();
+    }
 }
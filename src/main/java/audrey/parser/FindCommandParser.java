@@ -6,8 +6,14 @@ import java.util.Scanner;
 import audrey.task.List;
 import audrey.task.Task;
 
-/** Parser that locates tasks matching keywords from {@code find} commands. */
+/**
+ * Parser that locates tasks matching keywords from {@code find} commands. A command written as
+ * {@code find~} or {@code find~N} searches for near matches instead, allowing up to
+ * {@code DEFAULT_FUZZY_DISTANCE} or {@code N} typos per word.
+ */
 public class FindCommandParser extends BaseCommandParser {
+    private static final char FUZZY_MARKER = '~';
+    private static final int DEFAULT_FUZZY_DISTANCE = 2;
 
     /**
      * Builds a parser that searches the task list for keyword matches.
@@ -23,19 +29,19 @@ public class FindCommandParser extends BaseCommandParser {
      * Parses and executes a find command, returning numbered matches or an
      * informative message when none exist.
      *
-     * @param processedInput tokenised user input containing the keyword
+     * @param input tokenised user input containing the keyword
      * @return formatted search results from the task list
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput, "Find requires a keyword. Usage: find [keyword]");
+                input, "Find requires a keyword. Usage: find [keyword]");
         if (validationError != null) {
             return validationError;
         }
 
-        String keyword = processedInput[ARGS_INDEX].trim();
+        String keyword = input.arguments().toString();
 
         if (keyword.isEmpty()) {
             String errorMsg = "Find keyword cannot be empty.";
@@ -43,8 +49,13 @@ public class FindCommandParser extends BaseCommandParser {
             return errorMsg;
         }
 
+        CharSequence option = input.commandOption();
+        boolean isFuzzy = option.length() > 0 && option.charAt(0) == FUZZY_MARKER;
+
         try {
-            ArrayList<Task> foundTasks = toDoList.findTasks(keyword);
+            ArrayList<Task> foundTasks = isFuzzy
+                    ? toDoList.findTasksFuzzy(keyword, parseFuzzyDistance(option))
+                    : toDoList.findTasks(keyword);
 
             if (foundTasks.isEmpty()) {
                 String noMatchMsg = "No tasks found matching: " + keyword;
@@ -53,7 +64,9 @@ public class FindCommandParser extends BaseCommandParser {
             }
 
             StringBuilder resultBuilder = new StringBuilder();
-            resultBuilder.append("Here are the matching tasks in your list:\n");
+            resultBuilder.append(isFuzzy
+                    ? "Here are the closest matching tasks in your list:\n"
+                    : "Here are the matching tasks in your list:\n");
 
             for (int i = 0; i < foundTasks.size(); i++) {
                 resultBuilder.append(String.format("%d. %s\n", i + 1, foundTasks.get(i)));
@@ -69,4 +82,18 @@ public class FindCommandParser extends BaseCommandParser {
             return errorMsg;
         }
     }
+
+    /**
+     * Reads the edit distance written after the fuzzy marker.
+     *
+     * @param option command option starting with the marker, followed by nothing for the default
+     *               distance
+     * @return edit distance to search with
+     */
+    private int parseFuzzyDistance(CharSequence option) {
+        if (option.length() == 1) {
+            return DEFAULT_FUZZY_DISTANCE;
+        }
+        return (int) InputTokenizer.parseInt(option.subSequence(1, option.length()));
+    }
 }
@@ -21,11 +21,11 @@ public class HelpCommandParser extends BaseCommandParser {
      * Executes the help command by returning a formatted list of supported
      * instructions.
      *
-     * @param processedInput tokenised user input (ignored)
+     * @param input tokenised user input (ignored)
      * @return formatted help message containing usage information
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         String helpMessage = "Here are the available commands:\n\n"
                 + "1. todo [description] - Add a todo task\n"
                 + "2. deadline [description] /by [YYYY-MM-DD] - Add a deadline task\n"
@@ -0,0 +1,435 @@
+package audrey.parser;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Single-pass tokenizer for command input. One call to {@link #tokenize(CharSequence)} validates
+ * the input, trims it, collapses every run of whitespace into one space and records where each
+ * space-separated token starts and ends, all without regular expressions or intermediate strings.
+ * Tokens and the text after them are then handed out as {@link CharSequence} views over the
+ * normalized input.
+ *
+ * <p>A tokenizer is reused for every input a {@link Parser} reads, so its buffers and views are
+ * allocated once and grown only when an input needs more room. The views are only valid until the
+ * next call to {@link #tokenize(CharSequence)}; call {@code toString()} on one to keep its text.
+ */
+public final class InputTokenizer {
+    public static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private static final int MAX_WHITESPACE_EXCESS = 10;
+    private static final int MAX_COMMAND_LENGTH = 1000;
+    private static final int INITIAL_TOKEN_CAPACITY = 8;
+    private static final char COMMAND_OPTION_MARKER = '~';
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+    private static final String EMPTY_INPUT_MSG = "Please enter a command.";
+    private static final String TOO_MUCH_WHITESPACE_MSG =
+            "Too much whitespace. Please check your command format.";
+    private static final String TOO_LONG_MSG =
+            "Command too long. Please keep commands under " + MAX_COMMAND_LENGTH + " characters.";
+    private static final String TAB_MSG = "Tab characters not allowed. Please use spaces.";
+
+    private final char[] buffer;
+    private int length;
+    private int[] tokenStarts;
+    private int[] tokenEnds;
+    private int tokenCount;
+    private int commandNameEnd;
+    private Slice[] tokenViews;
+    private Slice[] restViews;
+    private final Slice inputView;
+    private final Slice commandNameView;
+    private final Slice commandOptionView;
+
+    /** Builds a tokenizer with room for a typical command. */
+    public InputTokenizer() {
+        buffer = new char[MAX_COMMAND_LENGTH];
+        tokenStarts = new int[INITIAL_TOKEN_CAPACITY];
+        tokenEnds = new int[INITIAL_TOKEN_CAPACITY];
+        tokenViews = new Slice[INITIAL_TOKEN_CAPACITY];
+        // One more rest view than tokens, for the empty text after the last token
+        restViews = new Slice[INITIAL_TOKEN_CAPACITY + 1];
+        for (int i = 0; i < INITIAL_TOKEN_CAPACITY; i++) {
+            tokenViews[i] = new Slice();
+        }
+        for (int i = 0; i <= INITIAL_TOKEN_CAPACITY; i++) {
+            restViews[i] = new Slice();
+        }
+        inputView = new Slice();
+        commandNameView = new Slice();
+        commandOptionView = new Slice();
+    }
+
+    /**
+     * Validates and tokenizes an input line, replacing the previous input.
+     *
+     * @param input raw user input
+     * @return message describing why the input was rejected, or null if it was tokenized
+     */
+    public String tokenize(CharSequence input) {
+        assert input != null : "Input cannot be null";
+
+        length = 0;
+        tokenCount = 0;
+        commandNameEnd = 0;
+
+        boolean hasTab = false;
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            hasTab |= input.charAt(start) == '\t';
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            hasTab |= input.charAt(end - 1) == '\t';
+            end--;
+        }
+
+        // Checked in the order the user should fix them
+        if (start == end) {
+            return EMPTY_INPUT_MSG;
+        }
+        if (input.length() - (end - start) > MAX_WHITESPACE_EXCESS) {
+            return TOO_MUCH_WHITESPACE_MSG;
+        }
+        if (input.length() > MAX_COMMAND_LENGTH) {
+            return TOO_LONG_MSG;
+        }
+        if (hasTab) {
+            return TAB_MSG;
+        }
+
+        boolean isInWhitespace = true;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '\t') {
+                length = 0;
+                tokenCount = 0;
+                return TAB_MSG;
+            }
+            if (isWhitespace(c)) {
+                if (!isInWhitespace) {
+                    tokenEnds[tokenCount - 1] = length;
+                    buffer[length++] = ' ';
+                    isInWhitespace = true;
+                }
+                continue;
+            }
+            if (isInWhitespace) {
+                startToken(length);
+                isInWhitespace = false;
+            }
+            buffer[length++] = c;
+        }
+        tokenEnds[tokenCount - 1] = length;
+
+        int commandEnd = tokenEnds[0];
+        commandNameEnd = 0;
+        while (commandNameEnd < commandEnd && buffer[commandNameEnd] != COMMAND_OPTION_MARKER) {
+            commandNameEnd++;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the whole normalized input.
+     *
+     * @return trimmed input with every run of whitespace collapsed into one space
+     */
+    public CharSequence input() {
+        return inputView.reset(0, length);
+    }
+
+    /**
+     * Returns the number of tokens, counting the command.
+     *
+     * @return number of space-separated tokens
+     */
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * Returns a token.
+     *
+     * @param index 0-based token index; the command is token 0
+     * @return view of the token
+     */
+    public CharSequence token(int index) {
+        assert index >= 0 && index < tokenCount : "Token index out of range: " + index;
+
+        return tokenViews[index].reset(tokenStarts[index], tokenEnds[index]);
+    }
+
+    /**
+     * Returns the text from a token to the end of the input.
+     *
+     * @param index 0-based token index, or {@link #tokenCount()} for an empty view
+     * @return view from the start of the token to the end of the input
+     */
+    public CharSequence rest(int index) {
+        assert index >= 0 && index <= tokenCount : "Token index out of range: " + index;
+
+        int start = index < tokenCount ? tokenStarts[index] : length;
+        return restViews[index].reset(start, length);
+    }
+
+    /**
+     * Returns the command token.
+     *
+     * @return view of the first token
+     */
+    public CharSequence command() {
+        return token(0);
+    }
+
+    /**
+     * Returns everything after the command.
+     *
+     * @return view of the arguments, empty if there are none
+     */
+    public CharSequence arguments() {
+        return rest(1);
+    }
+
+    /**
+     * Checks whether there is anything after the command.
+     *
+     * @return true if the input has at least one argument token
+     */
+    public boolean hasArguments() {
+        return tokenCount > 1;
+    }
+
+    /**
+     * Returns the command without its option, e.g. {@code find} for {@code find~2}.
+     *
+     * @return view of the command name
+     */
+    public CharSequence commandName() {
+        return commandNameView.reset(0, commandNameEnd);
+    }
+
+    /**
+     * Returns the option suffix of the command, e.g. {@code ~2} for {@code find~2}.
+     *
+     * @return view of the option, empty if the command has none
+     */
+    public CharSequence commandOption() {
+        return commandOptionView.reset(commandNameEnd, tokenEnds[0]);
+    }
+
+    /**
+     * Checks that the command is made of letters, optionally followed by {@code ~} and at most
+     * one digit.
+     *
+     * @return true if the command is well formed
+     */
+    public boolean isCommandWellFormed() {
+        if (commandNameEnd == 0) {
+            return false;
+        }
+        for (int i = 0; i < commandNameEnd; i++) {
+            char c = buffer[i];
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        int optionLength = tokenEnds[0] - commandNameEnd;
+        return optionLength == 0
+                || optionLength == 1
+                || (optionLength == 2 && isDigit(buffer[commandNameEnd + 1]));
+    }
+
+    /**
+     * Checks whether the whole input is a single word, ignoring case.
+     *
+     * @param word word to compare with
+     * @return true if the input is exactly that word
+     */
+    public boolean isOnly(String word) {
+        return tokenCount == 1 && contentEqualsIgnoreCase(token(0), word);
+    }
+
+    /**
+     * Parses an integer without creating a string.
+     *
+     * @param text optional sign followed by digits
+     * @return the value, or {@link #NOT_A_NUMBER} if the text is not an int
+     */
+    public static long parseInt(CharSequence text) {
+        int length = text.length();
+        int i = length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        if (i == length) {
+            return NOT_A_NUMBER;
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_A_NUMBER;
+            }
+        }
+        value = text.charAt(0) == '-' ? -value : value;
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? value : NOT_A_NUMBER;
+    }
+
+    /**
+     * Checks that text has the {@code YYYY-MM-DD} shape, without checking the date is real.
+     *
+     * @param text text to check
+     * @return true if the text is four digits, a dash, two digits, a dash and two digits
+     */
+    public static boolean isDateShaped(CharSequence text) {
+        if (text.length() != DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < DATE_LENGTH; i++) {
+            if (i != 4 && i != 7 && !isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a {@code YYYY-MM-DD} date without creating a string.
+     *
+     * @param text text to parse
+     * @return the date, or null if the text is not a valid date
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        if (!isDateShaped(text)) {
+            return null;
+        }
+        try {
+            return LocalDate.of(digits(text, 0, 4), digits(text, 5, 7), digits(text, 8, 10));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compares text with a word, ignoring case.
+     *
+     * @param text text to compare
+     * @param word word to compare with
+     * @return true if both have the same characters, ignoring case
+     */
+    public static boolean contentEqualsIgnoreCase(CharSequence text, String word) {
+        if (text.length() != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(text.charAt(i)) != Character.toLowerCase(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the start of a new token, growing the token arrays if needed.
+     *
+     * @param start buffer index the token starts at
+     */
+    private void startToken(int start) {
+        if (tokenCount == tokenStarts.length) {
+            int capacity = tokenStarts.length * 2;
+            tokenStarts = Arrays.copyOf(tokenStarts, capacity);
+            tokenEnds = Arrays.copyOf(tokenEnds, capacity);
+            tokenViews = Arrays.copyOf(tokenViews, capacity);
+            restViews = Arrays.copyOf(restViews, capacity + 1);
+            for (int i = tokenCount; i < capacity; i++) {
+                tokenViews[i] = new Slice();
+            }
+            for (int i = tokenCount; i <= capacity; i++) {
+                restViews[i] = new Slice();
+            }
+        }
+        tokenStarts[tokenCount++] = start;
+    }
+
+    /**
+     * Checks whether a character separates tokens, matching the {@code \s} regex class.
+     *
+     * @param c character to check
+     * @return true for space, tab, line breaks, vertical tab and form feed
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Checks whether a character is an ASCII digit.
+     *
+     * @param c character to check
+     * @return true for 0 to 9
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Reads a run of ASCII digits as a number.
+     *
+     * @param text text holding the digits
+     * @param start index of the first digit
+     * @param end index after the last digit
+     * @return value of the digits
+     */
+    private static int digits(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /** Reusable view of a range of the normalized input. */
+    private final class Slice implements CharSequence {
+        private int start;
+        private int end;
+
+        /**
+         * Points the view at a new range.
+         *
+         * @param start first buffer index of the range
+         * @param end buffer index after the range
+         * @return this view
+         */
+        private Slice reset(int start, int end) {
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            assert index >= 0 && index < length() : "Index out of range: " + index;
+
+            return buffer[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(buffer, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, start, end - start);
+        }
+    }
+}
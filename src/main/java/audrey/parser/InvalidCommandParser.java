@@ -20,23 +20,22 @@ public class InvalidCommandParser extends BaseCommandParser {
     /**
      * Reports that the command is invalid and returns formatted feedback.
      *
-     * @param processedInput tokenised user input with the original command word
+     * @param input tokenised user input with the original command word
      * @return friendly error message describing the unrecognised command
      */
     @Override
-    public String execute(String[] processedInput) {
-        String input = processedInput.length > 0 ? processedInput[0] : "unknown";
-        return handleInvalidCommand(input);
+    public String execute(InputTokenizer input) {
+        return handleInvalidCommand(input.command().toString());
     }
 
     /**
      * Provides the default response for invalid commands.
      *
-     * @param input original command string supplied by the user
+     * @param command original command word supplied by the user
      * @return formatted response indicating the command is not understood
      */
-    private String handleInvalidCommand(String input) {
-        String errorMsg = "I don't know what '" + input + "' means :-(";
+    private String handleInvalidCommand(String command) {
+        String errorMsg = "I don't know what '" + command + "' means :-(";
         print(errorMsg);
         return errorMsg;
     }
@@ -4,8 +4,19 @@ import java.util.Scanner;
 
 import audrey.task.List;
 
-/** Parser that renders the current task list when {@code list} is issued. */
+/**
+ * Parser that renders the current task list when {@code list} is issued. {@code list page <n>}
+ * and {@code list --limit <n>} show one page at a time, which keeps the output for a large list
+ * proportional to the page rather than to the whole list.
+ */
 public class ListCommandParser extends BaseCommandParser {
+    protected static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final String PAGE_OPTION = "page";
+    private static final String LIMIT_OPTION = "--limit";
+    private static final String USAGE_MSG =
+            "Usage: list, list page <number>, list --limit <number> "
+                    + "or list page <number> --limit <number>";
 
     /**
      * Builds a parser that delegates to the task list to display all entries.
@@ -20,15 +31,18 @@ public class ListCommandParser extends BaseCommandParser {
     /**
      * Executes the list command and returns the formatted task list or an error message.
      *
-     * @param processedInput tokenised user input (ignored)
+     * @param input tokenised user input; optional page and limit options follow the command
      * @return formatted task list or error message if retrieval fails
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         try {
-            String listResult = toDoList.showList();
-            print(listResult);
-            return listResult;
+            if (!input.hasArguments()) {
+                String listResult = toDoList.showList();
+                print(listResult);
+                return listResult;
+            }
+            return showPage(input);
 
         } catch (Exception e) {
             String errorMsg = "Error listing tasks: " + e.getMessage();
@@ -36,4 +50,45 @@ public class ListCommandParser extends BaseCommandParser {
             return errorMsg;
         }
     }
+
+    /**
+     * Shows the page selected by the {@code page} and {@code --limit} options, in either order.
+     *
+     * @param input tokenised user input whose arguments are the options
+     * @return formatted page or validation feedback
+     */
+    private String showPage(InputTokenizer input) {
+        int optionCount = input.tokenCount() - ARGS_INDEX;
+        if (optionCount != 2 && optionCount != 4) {
+            print(USAGE_MSG);
+            return USAGE_MSG;
+        }
+
+        int page = 0;
+        int pageSize = 0;
+        for (int i = ARGS_INDEX; i < input.tokenCount(); i += 2) {
+            CharSequence option = input.token(i);
+            CharSequence valueStr = input.token(i + 1);
+            long value = InputTokenizer.parseInt(valueStr);
+            if (value <= 0) {
+                String errorMsg = "'" + valueStr + "' is not a positive number. " + USAGE_MSG;
+                print(errorMsg);
+                return errorMsg;
+            }
+            if (InputTokenizer.contentEqualsIgnoreCase(option, PAGE_OPTION) && page == 0) {
+                page = (int) value;
+            } else if (InputTokenizer.contentEqualsIgnoreCase(option, LIMIT_OPTION)
+                    && pageSize == 0) {
+                pageSize = (int) value;
+            } else {
+                print(USAGE_MSG);
+                return USAGE_MSG;
+            }
+        }
+
+        String pageResult = toDoList.showListPage(page == 0 ? 1 : page,
+                pageSize == 0 ? DEFAULT_PAGE_SIZE : pageSize);
+        print(pageResult);
+        return pageResult;
+    }
 }
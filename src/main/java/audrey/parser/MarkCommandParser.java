@@ -20,28 +20,28 @@ public class MarkCommandParser extends BaseCommandParser {
     /**
      * Executes the mark command by validating the index and setting the task to done.
      *
-     * @param processedInput tokenised user input containing the task index
+     * @param input tokenised user input containing the task index
      * @return user-facing result reflecting the updated task state
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput, "Mark requires a task number. Usage: mark [task number]");
+                input, "Mark requires a task number. Usage: mark [task number]");
         if (validationError != null) {
             return validationError;
         }
 
-        String numberStr = processedInput[ARGS_INDEX].trim();
+        CharSequence numberStr = input.arguments();
 
         // Validate task number
-        String taskValidationError = validateTaskNumber(numberStr);
+        String taskValidationError = validateListedTaskNumber(numberStr);
         if (taskValidationError != null) {
             return taskValidationError;
         }
 
         try {
-            int taskNumber = Integer.parseInt(numberStr);
+            int taskNumber = toDoList.toStorageIndex(parseTaskNumber(numberStr));
             String markResult = toDoList.markTask(taskNumber);
             print(markResult);
             return markResult;
@@ -1,19 +1,17 @@
 package audrey.parser;
 
+import java.util.EnumMap;
 import java.util.Scanner;
 
 import audrey.command.Command;
 import audrey.task.List;
+import audrey.task.TaskClock;
 
 /**
  * Top-level parser that routes CLI input to concrete command parsers while
  * managing list-mode state and shared formatting utilities.
  */
 public class Parser {
-    // Constants for validation limits
-    private static final int MAX_WHITESPACE_EXCESS = 10;
-    private static final int MAX_COMMAND_LENGTH = 1000;
-
     // Constants for formatting
     private static final String INDENT = "    ";
     private static final String SEPARATOR_LINE =
@@ -23,12 +21,11 @@ public class Parser {
     private static final String HELP_COMMAND = "help";
     private static final String LIST_COMMAND = "list";
 
-    // Constants for array operations
-    private static final int SPLIT_LIMIT_TWO = 2;
-    private static final int COMMAND_INDEX = 0;
-
     private final Scanner scanner;
     private final List toDoList;
+    private final EnumMap<Command, BaseCommandParser> commandParsers;
+    private final BaseCommandParser invalidCommandParser;
+    private final InputTokenizer tokenizer;
     private boolean isListMode;
 
     /**
@@ -43,6 +40,9 @@ public class Parser {
 
         scanner = new Scanner(System.in);
         this.toDoList = toDoList;
+        this.commandParsers = createCommandParsers();
+        this.invalidCommandParser = new InvalidCommandParser(toDoList, scanner);
+        this.tokenizer = new InputTokenizer();
         this.isListMode = false;
 
         // Assert: Parser should be properly initialized
@@ -50,20 +50,52 @@ public class Parser {
         assert this.scanner != null : "Scanner should be properly initialized";
     }
 
+    /**
+     * Creates one parser per command. Command parsers keep no state between calls, so they are
+     * built once and reused for every input instead of being allocated per command.
+     *
+     * @return parsers keyed by the command they handle; BYE is handled by this class
+     */
+    private EnumMap<Command, BaseCommandParser> createCommandParsers() {
+        EnumMap<Command, BaseCommandParser> parsers = new EnumMap<>(Command.class);
+        parsers.put(Command.LIST, new ListCommandParser(toDoList, scanner));
+        parsers.put(Command.MARK, new MarkCommandParser(toDoList, scanner));
+        parsers.put(Command.UNMARK, new UnmarkCommandParser(toDoList, scanner));
+        parsers.put(Command.TODO, new TodoCommandParser(toDoList, scanner));
+        parsers.put(Command.DEADLINE, new DeadlineCommandParser(toDoList, scanner));
+        parsers.put(Command.EVENT, new EventCommandParser(toDoList, scanner));
+        parsers.put(Command.DELETE, new DeleteCommandParser(toDoList, scanner));
+        parsers.put(Command.FIND, new FindCommandParser(toDoList, scanner));
+        parsers.put(Command.DUE, new DueCommandParser(toDoList, scanner));
+        parsers.put(Command.AGENDA, new AgendaCommandParser(toDoList, scanner));
+        parsers.put(Command.CONFLICTS, new ConflictsCommandParser(toDoList, scanner));
+        parsers.put(Command.SNOOZE, new SnoozeCommandParser(toDoList, scanner));
+        parsers.put(Command.UNSNOOZE, new UnsnoozeCommandParser(toDoList, scanner));
+        parsers.put(Command.HELP, new HelpCommandParser(toDoList, scanner));
+        return parsers;
+    }
+
     /**
      * Prettier print for CLI.
      *
      * @param string Text to print
      */
     private void print(String string) {
-        String[] splitString = string.split("\n");
-        StringBuilder formattedString = new StringBuilder();
-        for (int i = 0; i < splitString.length; i++) {
-            if (i + 1 == splitString.length) {
-                formattedString.append(INDENT).append(splitString[i]);
-            } else {
-                formattedString.append(INDENT).append(splitString[i]).append('\n');
+        // Indent every line in one pass; trailing line breaks are dropped
+        int end = string.length();
+        while (end > 0 && string.charAt(end - 1) == '\n') {
+            end--;
+        }
+        StringBuilder formattedString = new StringBuilder(end + INDENT.length() * 8);
+        int lineStart = 0;
+        while (true) {
+            int lineEnd = string.indexOf('\n', lineStart);
+            if (lineEnd < 0 || lineEnd >= end) {
+                formattedString.append(INDENT).append(string, lineStart, end);
+                break;
             }
+            formattedString.append(INDENT).append(string, lineStart, lineEnd + 1);
+            lineStart = lineEnd + 1;
         }
         System.out.println(SEPARATOR_LINE);
         System.out.println(formattedString.toString());
@@ -80,88 +112,29 @@ public class Parser {
         // Assert: Input should not be null
         assert input != null : "Input string cannot be null";
 
-        // Validate and sanitize input
-        String validationResult = validateInput(input);
+        // Validate, trim and collapse whitespace in one pass
+        String validationResult = tokenizer.tokenize(input);
         if (validationResult != null) {
             return validationResult;
         }
 
-        String sanitizedInput = sanitizeInput(input);
+        // Every date check within one command sees the same date
+        TaskClock.refresh();
 
-        if (isHelpCommand(sanitizedInput)) {
+        if (tokenizer.isOnly(HELP_COMMAND)) {
             return getHelpMessage();
-        } else if (isListActivationCommand(sanitizedInput)) {
+        } else if (isListActivationCommand()) {
             return activateListMode();
         } else if (isListMode) {
-            return processListModeCommand(sanitizedInput);
+            return processListModeCommand();
         } else {
-            return echoInput(sanitizedInput);
-        }
-    }
-
-    /**
-     * Validates input for basic issues and returns error message if invalid.
-     *
-     * @param input Raw user input
-     * @return Error message if invalid, null if valid
-     */
-    private String validateInput(String input) {
-        if (input == null) {
-            return "Input cannot be null.";
-        }
-
-        if (input.trim().isEmpty()) {
-            return "Please enter a command.";
-        }
-
-        // Check for excessive whitespace that might indicate formatting issues
-        if (input.length() - input.trim().length() > MAX_WHITESPACE_EXCESS) {
-            return "Too much whitespace. Please check your command format.";
-        }
-
-        // Check for extremely long inputs that might cause issues
-        if (input.length() > MAX_COMMAND_LENGTH) {
-            return "Command too long. Please keep commands under "
-                    + MAX_COMMAND_LENGTH
-                    + " characters.";
-        }
-
-        // Check for potentially problematic characters
-        if (input.contains("\t")) {
-            return "Tab characters not allowed. Please use spaces.";
-        }
-
-        return null; // Input is valid
-    }
-
-    /**
-     * Sanitizes input by normalizing whitespace and removing leading/trailing spaces.
-     *
-     * @param input Raw user input
-     * @return Sanitized input
-     */
-    private String sanitizeInput(String input) {
-        if (input == null) {
-            return "";
+            return echoInput(tokenizer.input().toString());
         }
-
-        // Trim leading and trailing whitespace
-        String sanitized = input.trim();
-
-        // Replace multiple consecutive spaces with single spaces
-        sanitized = sanitized.replaceAll("\\s+", " ");
-
-        return sanitized;
-    }
-
-    /** Checks if the input is a help command. */
-    private boolean isHelpCommand(String input) {
-        return HELP_COMMAND.equalsIgnoreCase(input.trim());
     }
 
     /** Checks if the input is a list activation command. */
-    private boolean isListActivationCommand(String input) {
-        return LIST_COMMAND.equalsIgnoreCase(input) && !isListMode;
+    private boolean isListActivationCommand() {
+        return !isListMode && tokenizer.isOnly(LIST_COMMAND);
     }
 
     /** Activates list mode and returns the activation message. */
@@ -176,98 +149,36 @@ public class Parser {
     }
 
     /** Processes commands when in list mode. */
-    private String processListModeCommand(String input) {
+    private String processListModeCommand() {
         try {
-            String[] processedInput = parseCommandAndArguments(input);
-            String commandString = processedInput[0].toLowerCase();
-            Command command = Command.fromString(commandString);
+            if (!tokenizer.isCommandWellFormed()) {
+                throw new IllegalArgumentException(
+                        "Command must contain only letters: " + tokenizer.command());
+            }
+            Command command = Command.fromToken(tokenizer.commandName());
+            boolean hasOption = tokenizer.commandOption().length() > 0;
 
-            if (command == null) {
-                return handleInvalidCommand(input);
+            if (command == null || (hasOption && command != Command.FIND)) {
+                return handleInvalidCommand(tokenizer.input().toString());
             }
 
-            return executeCommand(command, processedInput);
+            return executeCommand(command);
         } catch (Exception e) {
             return "Error processing command: " + e.getMessage();
         }
     }
 
-    /**
-     * Parses command and arguments with enhanced error handling.
-     *
-     * @param input User input
-     * @return Array with command as first element and arguments as subsequent elements
-     */
-    private String[] parseCommandAndArguments(String input) {
-        if (input == null || input.trim().isEmpty()) {
-            return new String[] {""};
-        }
-
-        // Split on spaces but preserve quoted strings
-        String[] parts = input.split(" ", SPLIT_LIMIT_TWO);
-
-        // Validate command part
-        if (parts[0].isEmpty()) {
-            throw new IllegalArgumentException("Command cannot be empty");
-        }
-
-        // Check for invalid characters in command
-        if (!parts[COMMAND_INDEX].matches("[a-zA-Z]+")) {
-            throw new IllegalArgumentException(
-                    "Command must contain only letters: " + parts[COMMAND_INDEX]);
-        }
-
-        return parts;
-    }
-
-    /** Executes the given command with the processed input using command parsers. */
-    private String executeCommand(Command command, String[] processedInput) {
-        BaseCommandParser commandParser;
-
-        switch (command) {
-        case BYE:
+    /** Executes the given command on the tokenized input using command parsers. */
+    private String executeCommand(Command command) {
+        if (command == Command.BYE) {
             print("To Do List Deactivated");
             isListMode = false;
             return "To Do List Deactivated!";
-        case LIST:
-            commandParser = new ListCommandParser(toDoList, scanner);
-            break;
-        case MARK:
-            commandParser = new MarkCommandParser(toDoList, scanner);
-            break;
-        case UNMARK:
-            commandParser = new UnmarkCommandParser(toDoList, scanner);
-            break;
-        case TODO:
-            commandParser = new TodoCommandParser(toDoList, scanner);
-            break;
-        case DEADLINE:
-            commandParser = new DeadlineCommandParser(toDoList, scanner);
-            break;
-        case EVENT:
-            commandParser = new EventCommandParser(toDoList, scanner);
-            break;
-        case DELETE:
-            commandParser = new DeleteCommandParser(toDoList, scanner);
-            break;
-        case FIND:
-            commandParser = new FindCommandParser(toDoList, scanner);
-            break;
-        case SNOOZE:
-            commandParser = new SnoozeCommandParser(toDoList, scanner);
-            break;
-        case UNSNOOZE:
-            commandParser = new UnsnoozeCommandParser(toDoList, scanner);
-            break;
-        case HELP:
-            commandParser = new HelpCommandParser(toDoList, scanner);
-            break;
-        default:
-            commandParser = new InvalidCommandParser(toDoList, scanner);
-            break;
         }
 
-        return commandParser.execute(processedInput);
+        BaseCommandParser commandParser =
+                commandParsers.getOrDefault(command, invalidCommandParser);
+        return commandParser.execute(tokenizer);
     }
 
     /**
@@ -282,6 +193,7 @@ public class Parser {
 
                 Task Management:
                 • list - Show all tasks
+                • list page <number> - Show one page of tasks (add --limit <n> for page size)
                 • todo <description> - Add a todo task
                 • deadline <description> /by <date> - Add task with deadline
                 • event <description> /from <date> /to <date> - Add an event
@@ -293,6 +205,10 @@ public class Parser {
 
                 Find & Organize:
                 • find <keyword> - Search for tasks
+                • find~ <keyword> - Search allowing typos (find~1 for at most 1 typo)
+                • due <from> <to> - Show deadlines and events between two dates
+                • agenda <days> - Show deadlines and events of the coming days
+                • conflicts - Show events whose dates overlap
                 • snooze <number> - Snooze task forever
                 • snooze <number> <date> - Snooze until specific date
                 • unsnooze <number> - Remove snooze status from task
@@ -306,6 +222,7 @@ public class Parser {
                 • deadline Submit assignment /by 2025-09-25
                 • event Meeting /from 2025-09-20 /to 2025-09-20
                 • snooze 1 2025-10-01
+                • due 2025-09-20 2025-09-26
 
                 Note: Dates should be in YYYY-MM-DD format
                 """;
@@ -21,22 +21,17 @@ public class SnoozeCommandParser extends BaseCommandParser {
      * Executes a snooze command. When no arguments are supplied it lists snoozable
      * tasks; otherwise it snoozes the specified task forever or until a date.
      *
-     * @param processedInput tokenised user input containing the task number and
-     *                       optional date
+     * @param input tokenised user input containing the task number and optional date
      * @return user-facing confirmation or error message
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Special case: just "snooze" shows snooze list
-        if (processedInput.length < MIN_ARGS_LENGTH
-                || processedInput[ARGS_INDEX].trim().isEmpty()) {
+        if (!input.hasArguments()) {
             return handleSnoozeList();
         }
 
-        String fullArgs = processedInput[ARGS_INDEX].trim();
-        String[] parts = fullArgs.split("\\s+", 2);
-
-        String numberStr = parts[0];
+        CharSequence numberStr = input.token(ARGS_INDEX);
 
         // Validate task number
         String taskValidationError = validateTaskNumber(numberStr);
@@ -45,12 +40,11 @@ public class SnoozeCommandParser extends BaseCommandParser {
         }
 
         try {
-            int taskNumber = Integer.parseInt(numberStr);
+            int taskNumber = parseTaskNumber(numberStr);
 
             // Check if date is provided
-            if (parts.length > 1) {
-                String dateStr = parts[1].trim();
-                return handleSnoozeUntilDate(taskNumber, dateStr);
+            if (input.tokenCount() > ARGS_INDEX + 1) {
+                return handleSnoozeUntilDate(taskNumber, input.rest(ARGS_INDEX + 1));
             } else {
                 return handleSnoozeForever(taskNumber);
             }
@@ -101,19 +95,19 @@ public class SnoozeCommandParser extends BaseCommandParser {
      * Snoozes a task until the supplied date.
      *
      * @param taskNumber task index from the user-facing list
-     * @param dateStr    date string in {@code YYYY-MM-DD}
+     * @param dateStr    date text in {@code YYYY-MM-DD}
      * @return result message from the task list or validation feedback
      */
-    private String handleSnoozeUntilDate(int taskNumber, String dateStr) {
+    private String handleSnoozeUntilDate(int taskNumber, CharSequence dateStr) {
         // Validate date format
-        if (!dateStr.matches(DATE_PATTERN)) {
+        if (!InputTokenizer.isDateShaped(dateStr)) {
             String errorMsg = "Invalid Format for date";
             print(errorMsg);
             return errorMsg;
         }
 
         try {
-            String snoozeResult = toDoList.snoozeTaskUntil(taskNumber, dateStr);
+            String snoozeResult = toDoList.snoozeTaskUntil(taskNumber, dateStr.toString());
             print(snoozeResult);
             return snoozeResult;
         } catch (Exception e) {
@@ -21,20 +21,20 @@ public class TodoCommandParser extends BaseCommandParser {
      * Parses and executes a todo command after ensuring the description is
      * present.
      *
-     * @param processedInput tokenised user input containing the description
+     * @param input tokenised user input containing the description
      * @return status message from the task list after attempting the addition
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput,
+                input,
                 "Todo description cannot be empty. Usage: todo [description]");
         if (validationError != null) {
             return validationError;
         }
 
-        String description = processedInput[ARGS_INDEX].trim();
+        String description = input.arguments().toString();
 
         // Validate and clean description
         String cleanedDescription = validateAndCleanDescription(description);
@@ -21,29 +21,29 @@ public class UnmarkCommandParser extends BaseCommandParser {
      * Parses and executes an unmark command, ensuring the task index is valid
      * before updating the task.
      *
-     * @param processedInput tokenised user input containing the task index
+     * @param input tokenised user input containing the task index
      * @return outcome message from the task list or validation feedback
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput,
+                input,
                 "Unmark requires a task number. Usage: unmark [task number]");
         if (validationError != null) {
             return validationError;
         }
 
-        String numberStr = processedInput[ARGS_INDEX].trim();
+        CharSequence numberStr = input.arguments();
 
         // Validate task number
-        String taskValidationError = validateTaskNumber(numberStr);
+        String taskValidationError = validateListedTaskNumber(numberStr);
         if (taskValidationError != null) {
             return taskValidationError;
         }
 
         try {
-            int taskNumber = Integer.parseInt(numberStr);
+            int taskNumber = toDoList.toStorageIndex(parseTaskNumber(numberStr));
             String unmarkResult = toDoList.unmarkTask(taskNumber);
             print(unmarkResult);
             return unmarkResult;
@@ -21,20 +21,20 @@ public class UnsnoozeCommandParser extends BaseCommandParser {
      * Parses and executes an unsnooze command, reactivating the specified task if
      * the index is valid.
      *
-     * @param processedInput tokenised user input containing the task index
+     * @param input tokenised user input containing the task index
      * @return task list message describing the result
      */
     @Override
-    public String execute(String[] processedInput) {
+    public String execute(InputTokenizer input) {
         // Validate minimum arguments
         String validationError = validateMinimumArgs(
-                processedInput,
+                input,
                 "Unsnooze requires a task number. Usage: unsnooze [task number]");
         if (validationError != null) {
             return validationError;
         }
 
-        String numberStr = processedInput[ARGS_INDEX].trim();
+        CharSequence numberStr = input.arguments();
 
         // Validate task number
         String taskValidationError = validateTaskNumber(numberStr);
@@ -43,7 +43,7 @@ public class UnsnoozeCommandParser extends BaseCommandParser {
         }
 
         try {
-            int taskNumber = Integer.parseInt(numberStr);
+            int taskNumber = parseTaskNumber(numberStr);
             String unsnoozeResult = toDoList.unsnoozeTask(taskNumber);
             print(unsnoozeResult);
             return unsnoozeResult;
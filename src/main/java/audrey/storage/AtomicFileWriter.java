@@ -0,0 +1,94 @@
+package audrey.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces files atomically. New contents are written to a temporary file next to the target,
+ * forced to disk and then renamed over the target, so a crash leaves either the old or the new
+ * file on disk but never a partially written one.
+ */
+public final class AtomicFileWriter {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFileWriter() {
+        // Utility class, not meant to be instantiated
+    }
+
+    /** Writes the contents of a file to a stream. */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the file contents.
+         *
+         * @param out stream to write to; closed by the caller
+         * @throws IOException if the stream cannot be written
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Atomically replaces the target file with the contents produced by the writer.
+     *
+     * @param target file to replace
+     * @param contentWriter writer producing the new contents
+     * @throws IOException if the contents cannot be written or moved into place
+     */
+    public static void write(File target, ContentWriter contentWriter) throws IOException {
+        Path targetPath = target.toPath().toAbsolutePath();
+        Path tempPath = targetPath.resolveSibling(targetPath.getFileName() + TEMP_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveIntoPlace(tempPath, targetPath);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        forceDirectory(targetPath.getParent());
+    }
+
+    /**
+     * Renames the temporary file over the target, falling back to a plain replace on file systems
+     * that cannot move atomically.
+     *
+     * @param source temporary file
+     * @param target file to replace
+     * @throws IOException if the file cannot be moved
+     */
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of the rename to disk where the platform allows it.
+     *
+     * @param directory directory holding the replaced file
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform; the file contents are already durable
+        }
+    }
+}
@@ -21,6 +21,10 @@ public abstract class BaseStorageOperation {
     protected static final String EVENT_PATTERN =
             "\\[E\\]\\[([X ])\\]\\s*(.+?)\\s*\\(from:\\s*(.+?)\\s+to:\\s*(.+?)\\)";
 
+    // Snapshot header recording the last journal generation folded into the file
+    protected static final String GENERATION_HEADER = "# generation ";
+    protected static final long NO_GENERATION = 0;
+
     protected final List toDoList;
 
     /**
@@ -0,0 +1,294 @@
+package audrey.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import audrey.exception.WrongFromToOrientationException;
+import audrey.task.Deadline;
+import audrey.task.Event;
+import audrey.task.List;
+import audrey.task.Task;
+import audrey.task.Todo;
+
+/**
+ * Reads and writes the compact binary storage format. Dates are stored as epoch-day integers and
+ * descriptions as length-prefixed UTF-8, so loading needs no regex matching or date string parsing.
+ *
+ * <p>Layout: a header of magic number, format version, journal generation and task count,
+ * followed by one record per task: type tag byte, status bits, optional snooze date, the task's
+ * dates and the description.
+ */
+public class BinaryStorage extends BaseStorageOperation implements SnapshotWriter {
+    private static final int MAGIC = 0x41554452; // "AUDR"
+    private static final byte VERSION = 1;
+
+    private static final byte TODO_TAG = 'T';
+    private static final byte DEADLINE_TAG = 'D';
+    private static final byte EVENT_TAG = 'E';
+
+    private static final int COMPLETED_BIT = 1;
+    private static final int SNOOZED_UNTIL_BIT = 1 << 1;
+    private static final int SNOOZED_FOREVER_BIT = 1 << 2;
+
+    // Smallest record: type tag, status bits and the description length
+    private static final int MIN_RECORD_BYTES = 2 + Integer.BYTES;
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    private final File db;
+    private long snapshotGeneration;
+    private long lastSavedGeneration;
+    private boolean isSaveBlocked; // set when an unreadable file could not be backed up
+
+    /**
+     * Builds a binary reader/writer for the given file.
+     *
+     * @param toDoList task list to load into and save from
+     * @param db handle to the binary storage file
+     */
+    public BinaryStorage(List toDoList, File db) {
+        super(toDoList);
+        this.db = db;
+        this.snapshotGeneration = NO_GENERATION;
+        this.lastSavedGeneration = NO_GENERATION;
+    }
+
+    /**
+     * Unsupported for this class because binary files are not line based.
+     *
+     * @throws UnsupportedOperationException always thrown when invoked
+     */
+    @Override
+    public void execute(String line) {
+        throw new UnsupportedOperationException("BinaryStorage does not process lines");
+    }
+
+    /**
+     * Loads all tasks from the binary storage file. An empty file is treated as an empty list.
+     * If the file cannot be read to the end, the tasks decoded before the problem are kept and
+     * the file is copied aside before anything can overwrite it.
+     */
+    public void loadFromFile() {
+        assert db != null && db.exists() : "Database file should exist before loading";
+
+        if (db.length() == 0) {
+            return;
+        }
+
+        ArrayList<Task> tasks = new ArrayList<>();
+        boolean isComplete = false;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(db)))) {
+            isComplete = readTasks(in, tasks);
+        } catch (EOFException e) {
+            System.err.println("Binary database is truncated: " + db);
+        } catch (IOException e) {
+            System.err.println("Error reading database file: " + e.getMessage());
+        }
+
+        toDoList.addAll(tasks);
+        if (isComplete) {
+            System.out.println(
+                    "Database loaded: " + tasks.size() + " tasks loaded from binary file");
+        } else {
+            System.err.println("Only " + tasks.size() + " tasks could be loaded from " + db);
+            backUpUnreadableFile();
+        }
+    }
+
+    /**
+     * Reads the header and the task records.
+     *
+     * @param in stream positioned at the start of the file
+     * @param tasks list the decoded tasks are added to, in file order
+     * @return true if the whole file was read, false if it is not a supported binary database
+     * @throws IOException if the stream cannot be read or holds a corrupt record
+     */
+    private boolean readTasks(DataInputStream in, ArrayList<Task> tasks) throws IOException {
+        if (in.readInt() != MAGIC) {
+            System.err.println("Not a binary task database: " + db);
+            return false;
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            System.err.println("Unsupported binary database version: " + version);
+            return false;
+        }
+
+        snapshotGeneration = in.readLong();
+        int taskCount = in.readInt();
+        if (taskCount < 0) {
+            throw new IOException("Corrupt task count: " + taskCount);
+        }
+        // A corrupt count must not allocate more than the rest of the file can hold
+        tasks.ensureCapacity(Math.min(taskCount, in.available() / MIN_RECORD_BYTES));
+        for (int i = 0; i < taskCount; i++) {
+            Task task = readTask(in);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies a file that could not be read in full next to itself, so the next save cannot
+     * destroy the tasks that were not loaded. Saving is refused if the copy cannot be made.
+     */
+    private void backUpUnreadableFile() {
+        File backup = new File(db.getPath() + BACKUP_SUFFIX);
+        try {
+            Files.copy(db.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            System.err.println("The original database was copied to " + backup);
+        } catch (IOException e) {
+            isSaveBlocked = true;
+            System.err.println("Could not back up " + db + ", so it will not be overwritten: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the journal generation recorded in the header of the loaded file.
+     *
+     * @return generation of the loaded snapshot, or {@code NO_GENERATION}
+     */
+    public long getSnapshotGeneration() {
+        return snapshotGeneration;
+    }
+
+    /** Saves the current task list to the binary file. */
+    public void saveToFile() {
+        writeSnapshot(toDoList.snapshot(), NO_GENERATION);
+    }
+
+    @Override
+    public synchronized boolean writeSnapshot(Task[] tasks, long generation) {
+        if (isSaveBlocked) {
+            System.err.println("Error saving to file: " + db + " was not fully loaded");
+            return false;
+        }
+        if (generation != NO_GENERATION && generation < lastSavedGeneration) {
+            return true;
+        }
+
+        try {
+            AtomicFileWriter.write(db, stream -> {
+                DataOutputStream out = new DataOutputStream(stream);
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(generation);
+                out.writeInt(tasks.length);
+                for (Task task : tasks) {
+                    writeTask(out, task);
+                }
+                out.flush();
+            });
+        } catch (IOException e) {
+            System.err.println("Error saving to file: " + e.getMessage());
+            return false;
+        }
+
+        lastSavedGeneration = Math.max(lastSavedGeneration, generation);
+        return true;
+    }
+
+    /**
+     * Writes one task record.
+     *
+     * @param out stream to write to
+     * @param task task to encode
+     * @throws IOException if the stream cannot be written
+     */
+    private void writeTask(DataOutputStream out, Task task) throws IOException {
+        int status = task.isCompleted() ? COMPLETED_BIT : 0;
+        if (task.isSnoozedForever()) {
+            status |= SNOOZED_FOREVER_BIT;
+        } else if (task.getSnoozeUntil() != null) {
+            status |= SNOOZED_UNTIL_BIT;
+        }
+
+        if (task instanceof Deadline) {
+            out.writeByte(DEADLINE_TAG);
+        } else if (task instanceof Event) {
+            out.writeByte(EVENT_TAG);
+        } else {
+            out.writeByte(TODO_TAG);
+        }
+        out.writeByte(status);
+
+        if ((status & SNOOZED_UNTIL_BIT) != 0) {
+            out.writeInt((int) task.getSnoozeUntil().toEpochDay());
+        }
+        if (task instanceof Deadline) {
+            out.writeInt((int) ((Deadline) task).getDeadline().toEpochDay());
+        } else if (task instanceof Event) {
+            out.writeInt((int) ((Event) task).getFrom().toEpochDay());
+            out.writeInt((int) ((Event) task).getTo().toEpochDay());
+        }
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(description.length);
+        out.write(description);
+    }
+
+    /**
+     * Reads one task record.
+     *
+     * @param in stream to read from
+     * @return the decoded task, or null if the record holds an invalid task
+     * @throws IOException if the stream cannot be read
+     */
+    private Task readTask(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        int status = in.readByte();
+        LocalDate snoozeUntil = (status & SNOOZED_UNTIL_BIT) != 0
+                ? LocalDate.ofEpochDay(in.readInt())
+                : null;
+
+        LocalDate firstDate = null;
+        LocalDate secondDate = null;
+        if (tag == DEADLINE_TAG) {
+            firstDate = LocalDate.ofEpochDay(in.readInt());
+        } else if (tag == EVENT_TAG) {
+            firstDate = LocalDate.ofEpochDay(in.readInt());
+            secondDate = LocalDate.ofEpochDay(in.readInt());
+        }
+
+        // A corrupt length must not allocate more than the rest of the file
+        int descriptionLength = in.readInt();
+        if (descriptionLength < 0 || descriptionLength > in.available()) {
+            throw new IOException("Corrupt description length: " + descriptionLength);
+        }
+        byte[] descriptionBytes = new byte[descriptionLength];
+        in.readFully(descriptionBytes);
+        String description = new String(descriptionBytes, StandardCharsets.UTF_8);
+
+        boolean isCompleted = (status & COMPLETED_BIT) != 0;
+        if ((status & SNOOZED_FOREVER_BIT) != 0) {
+            snoozeUntil = LocalDate.MAX;
+        }
+
+        if (tag == TODO_TAG) {
+            return Todo.of(description, isCompleted, snoozeUntil);
+        } else if (tag == DEADLINE_TAG) {
+            return Deadline.of(description, firstDate, isCompleted, snoozeUntil);
+        } else if (tag == EVENT_TAG) {
+            try {
+                return Event.of(description, firstDate, secondDate, isCompleted, snoozeUntil);
+            } catch (WrongFromToOrientationException e) {
+                System.err.println("Error restoring task: " + description);
+                return null;
+            }
+        }
+        throw new IOException("Unknown task type tag: " + tag);
+    }
+}
@@ -0,0 +1,40 @@
+package audrey.storage;
+
+/** Thresholds deciding when the journal is folded into a fresh snapshot. */
+public class CompactionPolicy {
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+    public static final int DEFAULT_MAX_RECORDS = 10_000;
+
+    private final long maxJournalBytes;
+    private final int maxRecords;
+
+    /** Builds a policy using the default thresholds. */
+    public CompactionPolicy() {
+        this(DEFAULT_MAX_JOURNAL_BYTES, DEFAULT_MAX_RECORDS);
+    }
+
+    /**
+     * Builds a policy that compacts once either threshold is reached.
+     *
+     * @param maxJournalBytes journal size in bytes that triggers a compaction
+     * @param maxRecords number of journal records that triggers a compaction
+     */
+    public CompactionPolicy(long maxJournalBytes, int maxRecords) {
+        assert maxJournalBytes > 0 : "Journal size threshold should be positive";
+        assert maxRecords > 0 : "Record count threshold should be positive";
+
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxRecords = maxRecords;
+    }
+
+    /**
+     * Decides whether the journal has grown enough to be compacted.
+     *
+     * @param journalBytes current journal size in bytes
+     * @param recordCount current number of journal records
+     * @return true if a compaction should be started
+     */
+    public boolean shouldCompact(long journalBytes, int recordCount) {
+        return journalBytes >= maxJournalBytes || recordCount >= maxRecords;
+    }
+}
@@ -1,16 +1,24 @@
 package audrey.storage;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import audrey.task.List;
+import audrey.task.Task;
 
 /** Handles loading tasks from storage files. */
 public class FileLoader extends BaseStorageOperation {
+    private static final int PARALLEL_LOAD_THRESHOLD = 1 << 20;
+    private static final int MIN_CHUNK_BYTES = 64 * 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
 
     private final File db;
     private final TaskLineProcessor lineProcessor;
+    private long snapshotGeneration;
 
     /**
      * Builds a loader that hydrates the task list from the backing file.
@@ -22,6 +30,7 @@ public class FileLoader extends BaseStorageOperation {
         super(toDoList);
         this.db = db;
         this.lineProcessor = new TaskLineProcessor(toDoList);
+        this.snapshotGeneration = NO_GENERATION;
     }
 
     /**
@@ -35,48 +44,206 @@ public class FileLoader extends BaseStorageOperation {
         throw new UnsupportedOperationException("FileLoader does not process individual lines");
     }
 
-    /** Loads all tasks from the storage file. */
+    /**
+     * Loads all tasks from the storage file, reading it into one buffer first. Files of at least
+     * {@code PARALLEL_LOAD_THRESHOLD} bytes are parsed in parallel.
+     */
     public void loadFromFile() {
         // Assert: File should exist before loading
         assert db != null && db.exists() : "Database file should exist before loading";
 
-        try (Scanner sc = new Scanner(db)) {
-            int linesProcessed = 0;
-            int tasksLoaded = 0;
-            int initialTaskCount = toDoList.size();
-
-            while (sc.hasNext()) {
-                String line = sc.nextLine();
-                linesProcessed++;
-
-                try {
-                    lineProcessor.execute(line);
-                    // Check if a task was actually added
-                    if (toDoList.size() > initialTaskCount + tasksLoaded) {
-                        tasksLoaded++;
-                    }
-                } catch (Exception e) {
-                    System.err.println(
-                            "Error processing line " + linesProcessed + ": " + e.getMessage());
-                }
+        load(db.length() >= PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Loads all tasks from the storage file by parsing line-aligned chunks on the common
+     * fork/join pool. The chunks are merged in file order, so the resulting list is identical to
+     * the one produced by a sequential load.
+     */
+    public void loadFromFileInParallel() {
+        // Assert: File should exist before loading
+        assert db != null && db.exists() : "Database file should exist before loading";
+
+        load(true);
+    }
+
+    /**
+     * Reads the storage file and loads its tasks.
+     *
+     * @param isParallel whether to parse the file in parallel chunks
+     */
+    private void load(boolean isParallel) {
+        try {
+            ByteBuffer contents = MappedLineReader.map(db);
+            LoadResult result = isParallel
+                    ? loadInParallel(contents)
+                    : loadLines(new MappedLineReader(contents, 0, contents.limit()), lineProcessor);
+            for (LineProblem problem : result.problems) {
+                System.err.println("Line " + problem.line + ": " + problem.message);
+            }
+            toDoList.addAll(result.tasks);
+            if (result.generation != NO_GENERATION) {
+                snapshotGeneration = result.generation;
             }
 
             System.out.println(
                     "Database loaded: "
-                            + tasksLoaded
+                            + result.tasks.size()
                             + " tasks loaded from "
-                            + linesProcessed
+                            + result.linesProcessed
                             + " lines");
 
             // Assert: At least some data should be loaded from existing file
-            if (linesProcessed > 0 && tasksLoaded == 0) {
+            if (result.linesProcessed > 0 && result.tasks.isEmpty()) {
                 System.out.println("Warning: File contained data but no tasks were loaded");
             }
 
-        } catch (FileNotFoundException e) {
+        } catch (NoSuchFileException e) {
             System.err.println("Database file not found: " + e.getMessage());
         } catch (Exception e) {
             System.err.println("Error reading database file: " + e.getMessage());
         }
     }
+
+    /**
+     * Splits the file contents into line-aligned chunks, parses each chunk on the common
+     * fork/join pool and concatenates the parsed tasks in file order.
+     *
+     * @param contents file contents
+     * @return combined tasks and load statistics of all chunks
+     */
+    private LoadResult loadInParallel(ByteBuffer contents) {
+        int limit = contents.limit();
+        int chunkCount = ForkJoinPool.commonPool().getParallelism() * CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(MIN_CHUNK_BYTES, limit / chunkCount + 1);
+
+        ArrayList<ChunkLoader> chunks = new ArrayList<>();
+        int chunkStart = 0;
+        while (chunkStart < limit) {
+            int chunkEnd = Math.min(limit, chunkStart + chunkSize);
+            while (chunkEnd < limit && contents.get(chunkEnd - 1) != '\n') {
+                chunkEnd++;
+            }
+            ChunkLoader chunk = new ChunkLoader(contents, chunkStart, chunkEnd, lineProcessor);
+            chunk.fork();
+            chunks.add(chunk);
+            chunkStart = chunkEnd;
+        }
+
+        LoadResult total = new LoadResult();
+        for (ChunkLoader chunk : chunks) {
+            LoadResult result = chunk.join();
+            total.tasks.addAll(result.tasks);
+            // Chunks number their lines from 1, so shift them by the lines of earlier chunks
+            for (LineProblem problem : result.problems) {
+                total.problems.add(
+                        new LineProblem(total.linesProcessed + problem.line, problem.message));
+            }
+            total.linesProcessed += result.linesProcessed;
+            if (result.generation != NO_GENERATION) {
+                total.generation = result.generation;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Parses every line of the reader into tasks, picking up snapshot headers on the way. Problems
+     * are collected with their line numbers rather than printed, so that a parallel load can
+     * report them in file order once every chunk is done.
+     *
+     * @param reader    reader over the lines to load
+     * @param processor processor that parses each line
+     * @return parsed tasks, problems and statistics of the lines loaded
+     */
+    private static LoadResult loadLines(MappedLineReader reader, TaskLineProcessor processor) {
+        LoadResult result = new LoadResult();
+        ArrayList<String> problems = new ArrayList<>();
+
+        while (reader.hasNextLine()) {
+            String line = reader.nextLine();
+            result.linesProcessed++;
+            if (line.startsWith(GENERATION_HEADER)) {
+                result.generation = parseGeneration(line, problems);
+            } else {
+                Task task = processor.parseTask(line, problems);
+                if (task != null) {
+                    result.tasks.add(task);
+                }
+            }
+
+            for (String problem : problems) {
+                result.problems.add(new LineProblem(result.linesProcessed, problem));
+            }
+            problems.clear();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the journal generation recorded in the snapshot header of the loaded file.
+     *
+     * @return generation of the loaded snapshot, or {@code NO_GENERATION} if the file had no header
+     */
+    public long getSnapshotGeneration() {
+        return snapshotGeneration;
+    }
+
+    /**
+     * Parses the generation number out of a snapshot header line.
+     *
+     * @param line header line starting with {@code GENERATION_HEADER}
+     * @param problems list a warning is added to if the header is malformed
+     * @return parsed generation, or {@code NO_GENERATION} if the header is malformed
+     */
+    private static long parseGeneration(String line, ArrayList<String> problems) {
+        try {
+            return Long.parseLong(line.substring(GENERATION_HEADER.length()).trim());
+        } catch (NumberFormatException e) {
+            problems.add("Warning: Ignoring malformed snapshot header: " + line);
+            return NO_GENERATION;
+        }
+    }
+
+    /** Statistics and parsed tasks of one load pass. */
+    private static final class LoadResult {
+        private final ArrayList<Task> tasks = new ArrayList<>();
+        private final ArrayList<LineProblem> problems = new ArrayList<>();
+        private int linesProcessed;
+        private long generation = NO_GENERATION;
+    }
+
+    /** Warning or error about a line, numbered among the lines of its load pass. */
+    private static final class LineProblem {
+        private final int line;
+        private final String message;
+
+        private LineProblem(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+
+    /** Parses one line-aligned chunk of the file contents. */
+    private static final class ChunkLoader extends RecursiveTask<LoadResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final ByteBuffer contents;
+        private final int start;
+        private final int end;
+        private final TaskLineProcessor processor;
+
+        private ChunkLoader(ByteBuffer contents, int start, int end, TaskLineProcessor processor) {
+            this.contents = contents;
+            this.start = start;
+            this.end = end;
+            this.processor = processor;
+        }
+
+        @Override
+        protected LoadResult compute() {
+            return loadLines(new MappedLineReader(contents, start, end), processor);
+        }
+    }
 }
@@ -1,16 +1,45 @@
 package audrey.storage;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Objects;
 
 import audrey.task.List;
+import audrey.task.ListChange;
+import audrey.task.Task;
+import audrey.task.TaskListListener;
 
-/** Handles file operations for storage. */
-public class FileOperations extends BaseStorageOperation {
+/**
+ * Handles file operations for storage. When registered as a listener on the task list it tracks
+ * which tasks were marked or unmarked since the last save, so a save that changes nothing else
+ * only patches their fixed-width {@code [X]}/{@code [ ]} status fields in place.
+ *
+ * <p>Snapshots are taken before this class's lock is held, so a change can land between the
+ * snapshot and its write. After a write, only the changes the written snapshot already reflects
+ * are forgotten; the others stay pending for the next save.
+ */
+public class FileOperations extends BaseStorageOperation
+        implements SnapshotWriter, TaskListListener {
+    // Byte offset of the status character in a task line such as "[T][X] read book"
+    private static final int STATUS_OFFSET = 4;
+    private static final byte COMPLETED_STATUS = 'X';
+    private static final byte NOT_COMPLETED_STATUS = ' ';
 
     private final String filePath;
     private final File db;
+    private final BitSet dirtyStatuses;
+    private long lastSavedGeneration;
+    private boolean needsFullRewrite;
+    private Task[] writtenTasks;
+    private long[] lineOffsets;
+    private long writtenLength;
+    private long changeCount; // list changes seen so far
+    private long writeCount; // successful writes so far
 
     /**
      * Builds a file operation helper tied to the task list and backing file.
@@ -23,6 +52,8 @@ public class FileOperations extends BaseStorageOperation {
         super(toDoList);
         this.filePath = filePath;
         this.db = db;
+        this.lastSavedGeneration = NO_GENERATION;
+        this.dirtyStatuses = new BitSet();
     }
 
     /**
@@ -49,64 +80,233 @@ public class FileOperations extends BaseStorageOperation {
 
     /** Saves the current task list to file. */
     public void saveToFile() {
-        try {
-            createBackup();
+        saveToFile(NO_GENERATION);
+    }
 
-            try (FileWriter fw = new FileWriter(db)) {
-                for (int i = 0; i < toDoList.size(); i++) {
-                    audrey.task.Task task = toDoList.getTask(i);
-                    if (task != null) {
-                        fw.write(task.toString() + System.lineSeparator());
-                    }
-                }
+    /**
+     * Saves the current task list to file as a snapshot covering the given journal generation.
+     *
+     * @param generation last journal generation folded into this snapshot, or
+     *     {@code NO_GENERATION} to write a plain task file without a header
+     * @return true if the snapshot was written successfully
+     */
+    public boolean saveToFile(long generation) {
+        boolean isSaved = writeSnapshot(toDoList.snapshot(), generation);
+        if (isSaved) {
+            System.out.println("Tasks saved successfully to " + filePath);
+        }
+        return isSaved;
+    }
 
-                System.out.println("Tasks saved successfully to " + filePath);
+    @Override
+    public synchronized void onTaskListChanged(ListChange change, int taskIndex, Task task) {
+        changeCount++;
+        if (change == ListChange.MARKED || change == ListChange.UNMARKED) {
+            dirtyStatuses.set(taskIndex - 1);
+        } else {
+            // Any other change alters line count or line contents beyond the status field
+            needsFullRewrite = true;
+        }
+    }
+
+    /**
+     * Writes the given tasks to file. If only completion statuses changed since the last plain
+     * save, just those status characters are patched in place; otherwise the file is replaced
+     * atomically, so a failed or interrupted save leaves the previous contents intact. Snapshots
+     * may be written from a background compaction thread, so writes are serialised and a snapshot
+     * older than one already on disk is dropped.
+     *
+     * @param tasks tasks to persist, in list order
+     * @param generation last journal generation folded into this snapshot
+     * @return true if the snapshot was written or is already superseded on disk
+     */
+    @Override
+    public boolean writeSnapshot(Task[] tasks, long generation) {
+        boolean isFullRewrite;
+        long changesBeforeCheck;
+        long writesBeforeCheck;
+        synchronized (this) {
+            if (generation != NO_GENERATION && generation < lastSavedGeneration) {
+                return true;
             }
+            isFullRewrite = !canPatchInPlace(tasks, generation);
+            if (!write(tasks, generation, isFullRewrite)) {
+                return false;
+            }
+            changesBeforeCheck = changeCount;
+            writesBeforeCheck = writeCount;
+        }
+
+        // The list notifies this listener while holding its own lock, so its lock is only taken
+        // while this one is not held
+        Task[] current = toDoList.snapshot();
+        synchronized (this) {
+            // A change or write in between may not be reflected in the comparison
+            if (changeCount == changesBeforeCheck && writeCount == writesBeforeCheck) {
+                forgetWrittenChanges(tasks, current, isFullRewrite);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Patches or rewrites the file.
+     *
+     * @param tasks tasks to persist, in list order
+     * @param generation last journal generation folded into this snapshot
+     * @param isFullRewrite whether to replace the whole file rather than patch statuses
+     * @return true if the file was written
+     */
+    private boolean write(Task[] tasks, long generation, boolean isFullRewrite) {
+        try {
+            if (isFullRewrite) {
+                rewrite(tasks, generation);
+            } else {
+                patchStatuses(tasks);
+            }
+
+            lastSavedGeneration = Math.max(lastSavedGeneration, generation);
+            writeCount++;
+            return true;
 
         } catch (IOException e) {
             System.err.println("Error saving to file: " + e.getMessage());
-            restoreFromBackup();
         } catch (Exception e) {
             System.err.println("Unexpected error during save: " + e.getMessage());
-            restoreFromBackup();
         }
+        // The file on disk is no longer known to match the recorded offsets
+        writtenTasks = null;
+        return false;
     }
 
-    /** Creates a backup of the current file. */
-    private void createBackup() {
-        if (!db.exists()) {
-            return;
+    /**
+     * Checks whether the file on disk differs from the given tasks only in status fields of tasks
+     * flagged dirty.
+     *
+     * @param tasks tasks to persist
+     * @param generation generation of the snapshot to write
+     * @return true if the dirty status fields can be patched in place
+     */
+    private boolean canPatchInPlace(Task[] tasks, long generation) {
+        if (writtenTasks == null
+                || needsFullRewrite
+                || generation != NO_GENERATION
+                || tasks.length != writtenTasks.length
+                || db.length() != writtenLength) {
+            return false;
         }
 
-        File backupFile = new File(filePath + ".backup");
+        for (int i = dirtyStatuses.nextSetBit(0); i >= 0; i = dirtyStatuses.nextSetBit(i + 1)) {
+            // Compared by id since columnar storage hands out a new object on every read
+            if (i >= tasks.length
+                    || tasks[i].getId() != writtenTasks[i].getId()
+                    || lineOffsets[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        try {
-            java.nio.file.Files.copy(
-                    db.toPath(),
-                    backupFile.toPath(),
-                    java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            System.err.println("Warning: Could not create backup file: " + e.getMessage());
+    /**
+     * Overwrites the status character of every dirty task with positional writes.
+     *
+     * @param tasks tasks to persist
+     * @throws IOException if the file cannot be written
+     */
+    private void patchStatuses(Task[] tasks) throws IOException {
+        if (dirtyStatuses.isEmpty()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(db.toPath(), StandardOpenOption.WRITE)) {
+            ByteBuffer status = ByteBuffer.allocate(1);
+            for (int i = dirtyStatuses.nextSetBit(0); i >= 0;
+                    i = dirtyStatuses.nextSetBit(i + 1)) {
+                status.clear();
+                status.put(tasks[i].isCompleted() ? COMPLETED_STATUS : NOT_COMPLETED_STATUS);
+                status.flip();
+                channel.write(status, lineOffsets[i] + STATUS_OFFSET);
+            }
+            channel.force(false);
         }
     }
 
-    /** Restores from backup if save operation fails. */
-    private void restoreFromBackup() {
-        File backupFile = new File(filePath + ".backup");
+    /**
+     * Replaces the whole file, recording the byte offset of every task line for later patches.
+     *
+     * @param tasks tasks to persist
+     * @param generation generation to record in the header, or {@code NO_GENERATION} for none
+     * @throws IOException if the file cannot be written
+     */
+    private void rewrite(Task[] tasks, long generation) throws IOException {
+        long[] offsets = new long[tasks.length];
+        long[] length = new long[1];
+        byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+        AtomicFileWriter.write(db, out -> {
+            long position = 0;
+            if (generation != NO_GENERATION) {
+                byte[] header = (GENERATION_HEADER + generation).getBytes(StandardCharsets.UTF_8);
+                out.write(header);
+                out.write(lineSeparator);
+                position += header.length + lineSeparator.length;
+            }
+            for (int i = 0; i < tasks.length; i++) {
+                byte[] line = tasks[i].toString().getBytes(StandardCharsets.UTF_8);
+                offsets[i] = position;
+                out.write(line);
+                out.write(lineSeparator);
+                position += line.length + lineSeparator.length;
+            }
+            length[0] = position;
+        });
+
+        writtenTasks = tasks;
+        lineOffsets = offsets;
+        writtenLength = length[0];
+    }
 
-        if (!backupFile.exists()) {
-            System.err.println("No backup file found for restoration");
+    /**
+     * Forgets the pending changes that the written tasks already reflect, by comparing them with
+     * a snapshot of the list taken after the write. A change made after the written snapshot was
+     * taken shows up as a difference and stays pending.
+     *
+     * @param tasks tasks that were written
+     * @param current tasks in the list after the write
+     * @param isFullRewrite whether the whole file was rewritten, rather than statuses patched
+     */
+    private void forgetWrittenChanges(Task[] tasks, Task[] current, boolean isFullRewrite) {
+        boolean isCurrent = tasks.length == current.length;
+        for (int i = 0; isCurrent && i < tasks.length; i++) {
+            isCurrent = isSameState(tasks[i], current[i]);
+        }
+        if (isCurrent) {
+            dirtyStatuses.clear();
+            if (isFullRewrite) {
+                needsFullRewrite = false;
+            }
             return;
         }
 
-        try {
-            java.nio.file.Files.copy(
-                    backupFile.toPath(),
-                    db.toPath(),
-                    java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            System.out.println("Database restored from backup");
-        } catch (IOException e) {
-            System.err.println("Critical error: Could not restore from backup: " + e.getMessage());
+        for (int i = dirtyStatuses.nextSetBit(0); i >= 0; i = dirtyStatuses.nextSetBit(i + 1)) {
+            if (i < tasks.length && i < current.length && isSameState(tasks[i], current[i])) {
+                dirtyStatuses.clear(i);
+            }
         }
     }
+
+    /**
+     * Checks whether two tasks are the same task in the same saved state.
+     *
+     * @param written task as written to file
+     * @param current task as currently in the list
+     * @return true if both would be saved as the same line
+     */
+    private static boolean isSameState(Task written, Task current) {
+        assert written != null && current != null : "Snapshots should not contain null tasks";
+
+        // Compared by id since columnar storage hands out a new object on every read
+        return written.getId() == current.getId()
+                && written.isCompleted() == current.isCompleted()
+                && Objects.equals(written.getSnoozeUntil(), current.getSnoozeUntil());
+    }
 }
@@ -0,0 +1,417 @@
+package audrey.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import audrey.task.List;
+import audrey.task.ListChange;
+import audrey.task.Task;
+import audrey.task.TaskListListener;
+
+/**
+ * Append-only write-ahead journal of task list mutations. Every change to the list is appended as
+ * one small record, so persisting a command costs O(1) bytes instead of a full rewrite. On startup
+ * the records newer than the loaded snapshot are replayed on top of it.
+ *
+ * <p>Record format, one per line: {@code <CHANGE> <task index> [payload]}, where the payload is the
+ * stored task line for additions and the snooze date (or {@code forever}) for snoozes. The first
+ * line of the file is a {@code GENERATION <n>} header; a snapshot written with generation {@code n}
+ * already contains every record of that journal generation and every earlier one.
+ *
+ * <p>When a compaction starts, the active journal is rotated to {@code <journal>.<n>} and a fresh
+ * generation is opened, so the snapshot can be written in the background while new records keep
+ * being appended.
+ */
+public class Journal extends BaseStorageOperation implements TaskListListener {
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String JOURNAL_HEADER = "GENERATION ";
+    private static final String RECORD_SEPARATOR = " ";
+    private static final String SNOOZE_FOREVER = "forever";
+    private static final int RECORD_PARTS_LIMIT = 3;
+    private static final int CHANGE_INDEX = 0;
+    private static final int TASK_INDEX = 1;
+    private static final int PAYLOAD_INDEX = 2;
+
+    private final File journalFile;
+    private final TaskLineProcessor lineProcessor;
+    private FileOutputStream journalStream;
+    private BufferedWriter writer;
+    private long generation;
+    private int recordCount;
+
+    /**
+     * Builds a journal stored next to the given database file.
+     *
+     * @param toDoList task list the journal records and replays into
+     * @param filePath path to the snapshot file the journal belongs to
+     */
+    public Journal(List toDoList, String filePath) {
+        super(toDoList);
+        this.journalFile = new File(filePath + JOURNAL_SUFFIX);
+        this.lineProcessor = new TaskLineProcessor(toDoList);
+        this.generation = NO_GENERATION;
+        this.recordCount = 0;
+    }
+
+    /**
+     * Applies a single journal record to the task list.
+     *
+     * @param line journal record to replay
+     */
+    @Override
+    public void execute(String line) {
+        String[] parts = line.split(RECORD_SEPARATOR, RECORD_PARTS_LIMIT);
+        ListChange change = ListChange.valueOf(parts[CHANGE_INDEX]);
+        int taskIndex = Integer.parseInt(parts[TASK_INDEX]);
+
+        switch (change) {
+        case ADDED:
+            int sizeBefore = toDoList.size();
+            lineProcessor.execute(parts[PAYLOAD_INDEX]);
+            if (toDoList.size() != sizeBefore + 1) {
+                throw new IllegalStateException("Journaled task could not be restored");
+            }
+            break;
+        case MARKED:
+            toDoList.markTask(taskIndex);
+            break;
+        case UNMARKED:
+            toDoList.unmarkTask(taskIndex);
+            break;
+        case DELETED:
+            toDoList.delete(taskIndex);
+            break;
+        case SNOOZED:
+            if (SNOOZE_FOREVER.equals(parts[PAYLOAD_INDEX])) {
+                toDoList.snoozeTaskForever(taskIndex);
+            } else {
+                toDoList.snoozeTaskUntil(taskIndex, parts[PAYLOAD_INDEX]);
+            }
+            break;
+        case UNSNOOZED:
+            toDoList.unsnoozeTask(taskIndex);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown journal record: " + line);
+        }
+    }
+
+    /**
+     * Replays every record newer than the given snapshot generation and opens the journal for
+     * appending. Rotated journals left behind by an unfinished compaction are replayed first, in
+     * generation order; journals already covered by the snapshot are discarded.
+     *
+     * @param snapshotGeneration generation recorded in the loaded snapshot
+     */
+    public void replay(long snapshotGeneration) {
+        int recordsReplayed = 0;
+        generation = snapshotGeneration + 1;
+
+        for (File rotatedJournal : findRotatedJournals()) {
+            recordsReplayed += replayFile(rotatedJournal, snapshotGeneration);
+        }
+        discardThrough(snapshotGeneration);
+
+        int activeRecords = journalFile.exists() ? replayFile(journalFile, snapshotGeneration) : 0;
+        recordsReplayed += activeRecords;
+        recordCount = activeRecords;
+
+        if (recordsReplayed > 0) {
+            System.out.println("Journal replayed: " + recordsReplayed + " changes restored");
+        }
+        if (activeRecords > 0) {
+            openForAppend();
+        } else {
+            reset(generation);
+        }
+    }
+
+    /**
+     * Replays one journal file if its generation is newer than the snapshot.
+     *
+     * @param file journal file to replay
+     * @param snapshotGeneration generation recorded in the loaded snapshot
+     * @return number of records replayed
+     */
+    private int replayFile(File file, long snapshotGeneration) {
+        int recordsReplayed = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            long fileGeneration = readGeneration(reader.readLine());
+            if (fileGeneration <= snapshotGeneration) {
+                return 0;
+            }
+
+            generation = Math.max(generation, fileGeneration);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    execute(line);
+                    recordsReplayed++;
+                } catch (Exception e) {
+                    System.err.println("Skipping unreadable journal record: " + line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading journal file: " + e.getMessage());
+        }
+
+        return recordsReplayed;
+    }
+
+    /**
+     * Closes the active generation and moves it aside so a snapshot covering it can be written in
+     * the background. New records go to a fresh journal of the next generation.
+     *
+     * @return generation that was rotated out
+     */
+    public long rotate() {
+        long rotatedGeneration = generation;
+        close();
+
+        File rotatedFile = new File(journalFile.getPath() + "." + rotatedGeneration);
+        if (!journalFile.renameTo(rotatedFile)) {
+            System.err.println("Warning: Could not rotate journal file " + journalFile);
+        }
+
+        reset(rotatedGeneration + 1);
+        return rotatedGeneration;
+    }
+
+    /**
+     * Deletes rotated journals whose records are all contained in a snapshot on disk.
+     *
+     * @param snapshotGeneration generation of the snapshot that was written
+     */
+    public void discardThrough(long snapshotGeneration) {
+        for (File rotatedJournal : findRotatedJournals()) {
+            if (parseRotatedGeneration(rotatedJournal) <= snapshotGeneration
+                    && !rotatedJournal.delete()) {
+                System.err.println("Warning: Could not delete old journal " + rotatedJournal);
+            }
+        }
+    }
+
+    /**
+     * Lists rotated journal files next to the active journal, oldest generation first.
+     *
+     * @return rotated journal files sorted by generation
+     */
+    private ArrayList<File> findRotatedJournals() {
+        ArrayList<File> rotatedJournals = new ArrayList<>();
+        File directory = journalFile.getAbsoluteFile().getParentFile();
+        File[] candidates = directory == null ? null : directory.listFiles();
+        if (candidates == null) {
+            return rotatedJournals;
+        }
+
+        for (File candidate : candidates) {
+            if (parseRotatedGeneration(candidate) != NO_GENERATION) {
+                rotatedJournals.add(candidate);
+            }
+        }
+        rotatedJournals.sort(Comparator.comparingLong(this::parseRotatedGeneration));
+        return rotatedJournals;
+    }
+
+    /**
+     * Extracts the generation from a rotated journal file name.
+     *
+     * @param file candidate file
+     * @return generation encoded in the name, or {@code NO_GENERATION} if it is not a rotated journal
+     */
+    private long parseRotatedGeneration(File file) {
+        String prefix = journalFile.getName() + ".";
+        String name = file.getName();
+        if (!name.startsWith(prefix)) {
+            return NO_GENERATION;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return NO_GENERATION;
+        }
+    }
+
+    /**
+     * Truncates the journal and starts a new generation. Called once a snapshot containing all
+     * previous records has been written.
+     *
+     * @param newGeneration generation number of the fresh journal
+     */
+    public void reset(long newGeneration) {
+        close();
+        generation = newGeneration;
+        recordCount = 0;
+
+        try {
+            journalStream = new FileOutputStream(journalFile, false);
+            writer = new BufferedWriter(new OutputStreamWriter(journalStream, StandardCharsets.UTF_8));
+            writer.write(JOURNAL_HEADER + generation + System.lineSeparator());
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error resetting journal file: " + e.getMessage());
+            writer = null;
+            journalStream = null;
+        }
+    }
+
+    /**
+     * Returns the generation currently being appended to.
+     *
+     * @return current journal generation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of records in the current journal generation.
+     *
+     * @return record count
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the size of the current journal generation on disk.
+     *
+     * @return journal size in bytes, or 0 if the journal is not open
+     */
+    public long getByteCount() {
+        if (journalStream == null) {
+            return 0;
+        }
+        try {
+            return journalStream.getChannel().position();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /** Releases the underlying file handle. */
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Error closing journal file: " + e.getMessage());
+        }
+        writer = null;
+        journalStream = null;
+    }
+
+    @Override
+    public void onTaskListChanged(ListChange change, int taskIndex, Task task) {
+        append(formatRecord(change, taskIndex, task));
+    }
+
+    /**
+     * Builds the journal record for a change.
+     *
+     * @param change kind of mutation
+     * @param taskIndex 1-based index of the affected task
+     * @param task affected task
+     * @return journal record without line terminator
+     */
+    private String formatRecord(ListChange change, int taskIndex, Task task) {
+        String record = change.name() + RECORD_SEPARATOR + taskIndex;
+
+        if (change == ListChange.ADDED) {
+            return record + RECORD_SEPARATOR + task;
+        }
+        if (change == ListChange.SNOOZED) {
+            LocalDate until = task.getSnoozeUntil();
+            String payload = task.isSnoozedForever() ? SNOOZE_FOREVER : until.toString();
+            return record + RECORD_SEPARATOR + payload;
+        }
+        return record;
+    }
+
+    /**
+     * Appends one record and flushes it to the operating system.
+     *
+     * @param record record to append
+     */
+    private void append(String record) {
+        if (writer == null) {
+            System.err.println("Journal is not open, change not persisted: " + record);
+            return;
+        }
+        try {
+            writer.write(record + System.lineSeparator());
+            writer.flush();
+            recordCount++;
+        } catch (IOException e) {
+            System.err.println("Error appending to journal: " + e.getMessage());
+        }
+    }
+
+    /** Opens the existing journal for appending, terminating a torn trailing record first. */
+    private void openForAppend() {
+        try {
+            boolean needsNewline = endsWithPartialRecord();
+            journalStream = new FileOutputStream(journalFile, true);
+            writer = new BufferedWriter(new OutputStreamWriter(journalStream, StandardCharsets.UTF_8));
+            if (needsNewline) {
+                writer.write(System.lineSeparator());
+                writer.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Error opening journal file: " + e.getMessage());
+            writer = null;
+            journalStream = null;
+        }
+    }
+
+    /**
+     * Checks whether the journal ends without a line terminator, e.g. after a crash mid-append.
+     *
+     * @return true if the last record is incomplete
+     * @throws IOException if the journal cannot be read
+     */
+    private boolean endsWithPartialRecord() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "r")) {
+            if (file.length() == 0) {
+                return false;
+            }
+            file.seek(file.length() - 1);
+            return file.read() != '\n';
+        }
+    }
+
+    /**
+     * Parses the generation header of a journal file.
+     *
+     * @param header first line of the journal
+     * @return generation of the journal, or {@code NO_GENERATION} if the header is missing
+     */
+    private long readGeneration(String header) {
+        if (header == null || !header.startsWith(JOURNAL_HEADER)) {
+            System.err.println("Warning: Journal header missing, ignoring journal");
+            return NO_GENERATION;
+        }
+        try {
+            return Long.parseLong(header.substring(JOURNAL_HEADER.length()).trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Warning: Malformed journal header, ignoring journal");
+            return NO_GENERATION;
+        }
+    }
+}
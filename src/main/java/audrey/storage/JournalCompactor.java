@@ -0,0 +1,108 @@
+package audrey.storage;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import audrey.task.List;
+import audrey.task.ListChange;
+import audrey.task.Task;
+import audrey.task.TaskListListener;
+
+/**
+ * Folds the journal into a fresh snapshot once it crosses the thresholds of a
+ * {@link CompactionPolicy}. The command thread only copies the task references and rotates the
+ * journal; serialising the snapshot and deleting the rotated journal happen on a background
+ * thread, so command handling never waits for a compaction.
+ */
+public class JournalCompactor implements TaskListListener {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final List toDoList;
+    private final Journal journal;
+    private final SnapshotWriter snapshotWriter;
+    private final CompactionPolicy policy;
+    private final ExecutorService executor;
+    private final AtomicBoolean isCompacting;
+
+    /**
+     * Builds a compactor for the given journal.
+     *
+     * @param toDoList task list whose snapshots are written
+     * @param journal journal to compact, must be registered on the list before this compactor
+     * @param snapshotWriter writer used to persist snapshots
+     * @param policy thresholds that trigger a compaction
+     */
+    public JournalCompactor(List toDoList, Journal journal, SnapshotWriter snapshotWriter,
+            CompactionPolicy policy) {
+        assert toDoList != null : "Todo list cannot be null";
+        assert journal != null : "Journal cannot be null";
+        assert snapshotWriter != null : "Snapshot writer cannot be null";
+        assert policy != null : "Compaction policy cannot be null";
+
+        this.toDoList = toDoList;
+        this.journal = journal;
+        this.snapshotWriter = snapshotWriter;
+        this.policy = policy;
+        this.isCompacting = new AtomicBoolean(false);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audrey-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void onTaskListChanged(ListChange change, int taskIndex, Task task) {
+        if (policy.shouldCompact(journal.getByteCount(), journal.getRecordCount())) {
+            compact();
+        }
+    }
+
+    /**
+     * Starts a compaction unless one is already running.
+     *
+     * @return true if a new compaction was started
+     */
+    public boolean compact() {
+        if (!isCompacting.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Task[] tasks = toDoList.snapshot();
+        long generation = journal.rotate();
+
+        executor.execute(() -> {
+            try {
+                if (snapshotWriter.writeSnapshot(tasks, generation)) {
+                    journal.discardThrough(generation);
+                }
+            } finally {
+                isCompacting.set(false);
+            }
+        });
+        return true;
+    }
+
+    /** Waits for a running compaction to finish. Called before a foreground snapshot is written. */
+    public void awaitIdle() {
+        try {
+            executor.submit(() -> { }).get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("Warning: Compaction did not finish: " + e.getMessage());
+        }
+    }
+
+    /** Finishes any running compaction and stops the background thread. */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Warning: Compaction still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package audrey.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads lines from the bytes of a storage file. Line boundaries are found by scanning the bytes
+ * directly, and only the bytes of the line being returned are decoded.
+ */
+public class MappedLineReader {
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    // Only files this large are memory-mapped. A mapping cannot be released before it is garbage
+    // collected, and on Windows it blocks the atomic replace of the file on the next save
+    private static final long MAP_THRESHOLD_BYTES = 64L * 1024 * 1024;
+
+    private final ByteBuffer buffer;
+    private final int end;
+    private int position;
+    private byte[] lineBytes;
+
+    /**
+     * Builds a reader over the given byte range of a buffer.
+     *
+     * @param buffer buffer holding the file contents
+     * @param start  offset of the first byte to read
+     * @param end    offset one past the last byte to read
+     */
+    public MappedLineReader(ByteBuffer buffer, int start, int end) {
+        assert buffer != null : "Buffer cannot be null";
+        assert 0 <= start && start <= end && end <= buffer.limit() : "Range should lie in buffer";
+
+        this.buffer = buffer;
+        this.position = start;
+        this.end = end;
+        this.lineBytes = new byte[128];
+    }
+
+    /**
+     * Reads the whole file into a buffer. Task files are small and are read onto the heap; only a
+     * file above {@code MAP_THRESHOLD_BYTES} is memory-mapped, and that mapping stays valid after
+     * the channel is closed.
+     *
+     * @param file file to read
+     * @return read-only buffer over the file contents
+     * @throws IOException if the file cannot be read or is larger than 2 GB
+     */
+    public static ByteBuffer map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Database file is too large to map: " + size + " bytes");
+            }
+            if (size < MAP_THRESHOLD_BYTES) {
+                ByteBuffer contents = ByteBuffer.allocate((int) size);
+                while (contents.hasRemaining() && channel.read(contents) >= 0) {
+                    // Keep reading until the buffer is full or the file ends
+                }
+                contents.flip();
+                return contents.asReadOnlyBuffer();
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Checks whether there is another line to read.
+     *
+     * @return true if unread bytes remain
+     */
+    public boolean hasNextLine() {
+        return position < end;
+    }
+
+    /**
+     * Returns the next line without its line terminator.
+     *
+     * @return decoded line, or null if no lines remain
+     */
+    public String nextLine() {
+        if (!hasNextLine()) {
+            return null;
+        }
+
+        int lineStart = position;
+        int lineEnd = lineStart;
+        while (lineEnd < end && buffer.get(lineEnd) != NEW_LINE) {
+            lineEnd++;
+        }
+        position = lineEnd < end ? lineEnd + 1 : end;
+
+        if (lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+            lineEnd--;
+        }
+        return decode(lineStart, lineEnd - lineStart);
+    }
+
+    /**
+     * Decodes a UTF-8 byte range of the buffer.
+     *
+     * @param offset offset of the first byte
+     * @param length number of bytes to decode
+     * @return decoded string
+     */
+    private String decode(int offset, int length) {
+        if (lineBytes.length < length) {
+            lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+        }
+        buffer.get(offset, lineBytes, 0, length);
+        return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,16 @@
+package audrey.storage;
+
+import audrey.task.Task;
+
+/** Writes a full snapshot of the task list to the storage file. */
+public interface SnapshotWriter {
+    /**
+     * Replaces the storage file with the given tasks.
+     *
+     * @param tasks tasks to persist, in list order
+     * @param generation last journal generation folded into this snapshot, or
+     *     {@code BaseStorageOperation.NO_GENERATION} for a plain snapshot
+     * @return true if the snapshot was written successfully
+     */
+    boolean writeSnapshot(Task[] tasks, long generation);
+}
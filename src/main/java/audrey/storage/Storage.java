@@ -11,6 +11,11 @@ public class Storage {
     private final List toDoList;
     private final FileLoader fileLoader;
     private final FileOperations fileOperations;
+    private final BinaryStorage binaryStorage;
+    private final SnapshotWriter snapshotWriter;
+    private final Journal journal;
+    private final JournalCompactor compactor;
+    private WriteBehindFlusher writeBehindFlusher;
 
     /**
      * Constructor for Storage class.
@@ -18,6 +23,53 @@ public class Storage {
      * @param filePath Path to the storage file
      */
     public Storage(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructor for Storage class with optional write-ahead journaling. In journal mode every
+     * change is appended to a journal next to the storage file and {@link #saveToFile()} writes a
+     * snapshot and truncates the journal.
+     *
+     * @param filePath Path to the storage file
+     * @param isJournaled Whether changes should be journaled as they happen
+     */
+    public Storage(String filePath, boolean isJournaled) {
+        this(filePath, isJournaled, new CompactionPolicy());
+    }
+
+    /**
+     * Constructor for Storage class with custom journal compaction thresholds. Once the journal
+     * crosses a threshold it is folded into a fresh snapshot on a background thread.
+     *
+     * @param filePath Path to the storage file
+     * @param isJournaled Whether changes should be journaled as they happen
+     * @param compactionPolicy Thresholds that trigger a journal compaction
+     */
+    public Storage(String filePath, boolean isJournaled, CompactionPolicy compactionPolicy) {
+        this(filePath, StorageFormat.TEXT, isJournaled, compactionPolicy);
+    }
+
+    /**
+     * Constructor for Storage class using the given on-disk format.
+     *
+     * @param filePath Path to the storage file
+     * @param format Format of the storage file
+     */
+    public Storage(String filePath, StorageFormat format) {
+        this(filePath, format, false, new CompactionPolicy());
+    }
+
+    /**
+     * Constructor for Storage class with full control over format and journaling.
+     *
+     * @param filePath Path to the storage file
+     * @param format Format of the storage file
+     * @param isJournaled Whether changes should be journaled as they happen
+     * @param compactionPolicy Thresholds that trigger a journal compaction
+     */
+    public Storage(String filePath, StorageFormat format, boolean isJournaled,
+            CompactionPolicy compactionPolicy) {
         // Assert: File path should not be null or empty
         assert filePath != null : "File path cannot be null";
         assert !filePath.trim().isEmpty() : "File path cannot be empty";
@@ -27,22 +79,96 @@ public class Storage {
         this.toDoList = new List();
         this.fileLoader = new FileLoader(toDoList, db);
         this.fileOperations = new FileOperations(toDoList, filePath, db);
+        this.binaryStorage = format == StorageFormat.BINARY ? new BinaryStorage(toDoList, db) : null;
+        this.snapshotWriter = binaryStorage != null ? binaryStorage : fileOperations;
+        this.journal = isJournaled ? new Journal(toDoList, filePath) : null;
+        this.compactor = isJournaled
+                ? new JournalCompactor(toDoList, journal, snapshotWriter, compactionPolicy)
+                : null;
 
         // Assert: All components should be properly initialized
         assert this.filePath != null : "File path should be properly initialized";
         assert this.db != null : "File object should be properly initialized";
         assert this.toDoList != null : "Todo list should be properly initialized";
 
-        if (db.exists()) {
-            fileLoader.loadFromFile();
-        } else {
+        long snapshotGeneration = BaseStorageOperation.NO_GENERATION;
+        if (!db.exists()) {
             fileOperations.createNewFile();
+        } else if (binaryStorage != null) {
+            binaryStorage.loadFromFile();
+            snapshotGeneration = binaryStorage.getSnapshotGeneration();
+        } else {
+            fileLoader.loadFromFile();
+            snapshotGeneration = fileLoader.getSnapshotGeneration();
+        }
+
+        if (binaryStorage == null) {
+            toDoList.addListener(fileOperations);
+        }
+        if (journal != null) {
+            journal.replay(snapshotGeneration);
+            toDoList.addListener(journal);
+            toDoList.addListener(compactor);
         }
     }
 
-    /** Persists the current task list to disk using {@link FileOperations}. */
+    /**
+     * Persists the current task list to disk in the configured format. In journal mode this
+     * writes a snapshot covering the current journal generation and then starts a new one.
+     */
     public void saveToFile() {
-        fileOperations.saveToFile();
+        if (journal == null) {
+            if (binaryStorage != null) {
+                binaryStorage.saveToFile();
+            } else {
+                fileOperations.saveToFile();
+            }
+            return;
+        }
+
+        compactor.awaitIdle();
+        long generation = journal.getGeneration();
+        if (snapshotWriter.writeSnapshot(toDoList.snapshot(), generation)) {
+            System.out.println("Tasks saved successfully to " + filePath);
+            journal.reset(generation + 1);
+            journal.discardThrough(generation);
+        }
+    }
+
+    /**
+     * Starts persisting changes in the background: each change is flushed to disk within the given
+     * interval, and bursts of changes are coalesced into a single write. Journal mode already
+     * records every change as it happens, so write-behind is not used there.
+     *
+     * @param flushIntervalMillis maximum time a change stays unsaved, in milliseconds
+     */
+    public void startWriteBehind(long flushIntervalMillis) {
+        if (journal != null) {
+            System.err.println("Warning: Write-behind is not used in journal mode");
+            return;
+        }
+        if (writeBehindFlusher != null) {
+            return;
+        }
+
+        writeBehindFlusher = new WriteBehindFlusher(toDoList, snapshotWriter, flushIntervalMillis);
+        toDoList.addListener(writeBehindFlusher);
+    }
+
+    /**
+     * Releases resources held by this storage, such as an open journal. Changes still waiting for
+     * a write-behind flush are written before this method returns.
+     */
+    public void close() {
+        if (writeBehindFlusher != null) {
+            toDoList.removeListener(writeBehindFlusher);
+            writeBehindFlusher.close();
+            writeBehindFlusher = null;
+        }
+        if (journal != null) {
+            compactor.shutdown();
+            journal.close();
+        }
     }
 
     /**
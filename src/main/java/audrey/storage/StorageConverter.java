@@ -0,0 +1,58 @@
+package audrey.storage;
+
+import java.io.File;
+
+import audrey.task.List;
+
+/** Converts task databases between the text and binary storage formats. */
+public final class StorageConverter {
+
+    private StorageConverter() {
+        // Utility class, not meant to be instantiated
+    }
+
+    /**
+     * Converts a text database into the binary format.
+     *
+     * @param textPath path of the existing text database
+     * @param binaryPath path of the binary database to write
+     * @return true if the binary database was written
+     */
+    public static boolean textToBinary(String textPath, String binaryPath) {
+        File textFile = new File(textPath);
+        if (!textFile.exists()) {
+            System.err.println("Database file not found: " + textPath);
+            return false;
+        }
+
+        List toDoList = new List();
+        FileLoader loader = new FileLoader(toDoList, textFile);
+        loader.loadFromFile();
+
+        BinaryStorage binaryStorage = new BinaryStorage(toDoList, new File(binaryPath));
+        return binaryStorage.writeSnapshot(toDoList.snapshot(), loader.getSnapshotGeneration());
+    }
+
+    /**
+     * Converts a binary database into the text format.
+     *
+     * @param binaryPath path of the existing binary database
+     * @param textPath path of the text database to write
+     * @return true if the text database was written
+     */
+    public static boolean binaryToText(String binaryPath, String textPath) {
+        File binaryFile = new File(binaryPath);
+        if (!binaryFile.exists()) {
+            System.err.println("Database file not found: " + binaryPath);
+            return false;
+        }
+
+        List toDoList = new List();
+        BinaryStorage binaryStorage = new BinaryStorage(toDoList, binaryFile);
+        binaryStorage.loadFromFile();
+
+        FileOperations fileOperations = new FileOperations(toDoList, textPath, new File(textPath));
+        return fileOperations.writeSnapshot(
+                toDoList.snapshot(), binaryStorage.getSnapshotGeneration());
+    }
+}
@@ -0,0 +1,9 @@
+package audrey.storage;
+
+/** On-disk formats supported by {@link Storage}. */
+public enum StorageFormat {
+    /** Human-readable format with one rendered task per line. */
+    TEXT,
+    /** Compact binary format read and written by {@link BinaryStorage}. */
+    BINARY
+}
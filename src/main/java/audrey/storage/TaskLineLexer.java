@@ -0,0 +1,251 @@
+package audrey.storage;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import audrey.exception.WrongFromToOrientationException;
+import audrey.task.Deadline;
+import audrey.task.Event;
+import audrey.task.List;
+import audrey.task.Task;
+import audrey.task.Todo;
+
+/**
+ * Hand-written lexer for stored task lines. It dispatches on the {@code [T]}, {@code [D]} or
+ * {@code [E]} prefix and extracts every field by index in a single pass over the line, accepting
+ * the lines described by {@code TODO_PATTERN}, {@code DEADLINE_PATTERN} and {@code EVENT_PATTERN}
+ * without running any regular expression. The dates are always the last part of a saved line, so
+ * the last {@code (by:} or {@code (from:} marker is taken, and a description that itself contains
+ * a marker loads back as it was saved.
+ */
+public class TaskLineLexer extends BaseStorageOperation {
+    private static final int PREFIX_LENGTH = "[T][ ]".length();
+    private static final int STATUS_INDEX = 4;
+    private static final String BY_MARKER = "(by:";
+    private static final String FROM_MARKER = "(from:";
+    private static final String TO_MARKER = "to:";
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+    /**
+     * Builds a lexer that reconstructs tasks from stored lines.
+     *
+     * @param toDoList task list to populate
+     */
+    public TaskLineLexer(List toDoList) {
+        super(toDoList);
+    }
+
+    @Override
+    public void execute(String line) {
+        Task task = parse(line);
+        if (task == null) {
+            throw new IllegalArgumentException("Unrecognized task format: " + line);
+        }
+        toDoList.addAll(Collections.singletonList(task));
+    }
+
+    /**
+     * Parses a trimmed task line into a task.
+     *
+     * @param line The trimmed line to parse
+     * @return the parsed task, or null if the line is not in a stored task format
+     * @throws IllegalArgumentException if the line has a task format but invalid fields
+     */
+    public Task parse(String line) {
+        assert line != null : "Line to parse cannot be null";
+
+        if (line.length() <= PREFIX_LENGTH
+                || line.charAt(0) != '['
+                || line.charAt(2) != ']'
+                || line.charAt(3) != '['
+                || line.charAt(5) != ']') {
+            return null;
+        }
+
+        char status = line.charAt(STATUS_INDEX);
+        if (status != 'X' && status != ' ') {
+            return null;
+        }
+        boolean isCompleted = status == 'X';
+
+        int start = skipWhitespace(line, PREFIX_LENGTH, line.length());
+        switch (line.charAt(1)) {
+        case 'T':
+            return lexTodo(line, start, isCompleted);
+        case 'D':
+            return lexDeadline(line, start, isCompleted);
+        case 'E':
+            return lexEvent(line, start, isCompleted);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Extracts a todo from the text after its prefix.
+     *
+     * @param line stored line
+     * @param start index of the description
+     * @param isCompleted whether the task is marked done
+     * @return the todo, or null if there is no description
+     */
+    private Task lexTodo(String line, int start, boolean isCompleted) {
+        if (start == line.length()) {
+            return null;
+        }
+        String description = line.substring(start).trim();
+        validateTaskDescription(description, "Todo");
+        return Todo.of(description, isCompleted, null);
+    }
+
+    /**
+     * Extracts a deadline from the text after its prefix, e.g. {@code desc (by: 2025-10-15)}.
+     *
+     * @param line stored line
+     * @param start index of the description
+     * @param isCompleted whether the task is marked done
+     * @return the deadline, or null if the line is not in deadline format
+     */
+    private Task lexDeadline(String line, int start, boolean isCompleted) {
+        int end = line.length() - 1;
+        if (line.charAt(end) != ')') {
+            return null;
+        }
+
+        int byIndex = line.lastIndexOf(BY_MARKER);
+        if (byIndex <= start) {
+            return null;
+        }
+        int dateStart = skipWhitespace(line, byIndex + BY_MARKER.length(), end);
+        if (dateStart >= end) {
+            return null;
+        }
+
+        String description = line.substring(start, byIndex).trim();
+        validateTaskDescription(description, "Deadline");
+        LocalDate deadline = lexDate(line, dateStart, end, "Deadline");
+        return Deadline.of(description, deadline, isCompleted, null);
+    }
+
+    /**
+     * Extracts an event from the text after its prefix, e.g.
+     * {@code desc (from: 2025-10-15 to: 2025-10-16)}.
+     *
+     * @param line stored line
+     * @param start index of the description
+     * @param isCompleted whether the task is marked done
+     * @return the event, or null if the line is not in event format
+     */
+    private Task lexEvent(String line, int start, boolean isCompleted) {
+        int end = line.length() - 1;
+        if (line.charAt(end) != ')') {
+            return null;
+        }
+
+        int fromIndex = line.lastIndexOf(FROM_MARKER);
+        if (fromIndex <= start) {
+            return null;
+        }
+        int fromStart = skipWhitespace(line, fromIndex + FROM_MARKER.length(), end);
+
+        int toIndex = line.indexOf(TO_MARKER, fromStart + 1);
+        while (toIndex >= 0 && toIndex < end && !Character.isWhitespace(line.charAt(toIndex - 1))) {
+            toIndex = line.indexOf(TO_MARKER, toIndex + 1);
+        }
+        if (toIndex < 0 || toIndex >= end) {
+            return null;
+        }
+        int fromEnd = toIndex - 1;
+        while (fromEnd > fromStart && Character.isWhitespace(line.charAt(fromEnd - 1))) {
+            fromEnd--;
+        }
+        int toStart = skipWhitespace(line, toIndex + TO_MARKER.length(), end);
+        if (fromEnd <= fromStart || toStart >= end) {
+            return null;
+        }
+
+        String description = line.substring(start, fromIndex).trim();
+        validateTaskDescription(description, "Event");
+        LocalDate from = lexDate(line, fromStart, fromEnd, "Event start");
+        LocalDate to = lexDate(line, toStart, end, "Event end");
+        try {
+            return Event.of(description, from, to, isCompleted, null);
+        } catch (WrongFromToOrientationException e) {
+            throw new IllegalArgumentException(
+                    "Event end date (" + to + ") cannot be before start date (" + from + ")");
+        }
+    }
+
+    /**
+     * Parses a {@code yyyy-MM-dd} date from a range of the line.
+     *
+     * @param line stored line
+     * @param start index of the first character of the date
+     * @param end index one past the last character of the date
+     * @param dateType type of date for error messaging
+     * @return parsed date
+     * @throws IllegalArgumentException if the range does not hold a valid date
+     */
+    private LocalDate lexDate(String line, int start, int end, String dateType) {
+        while (end > start && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != DATE_LENGTH
+                || line.charAt(start + 4) != '-'
+                || line.charAt(start + 7) != '-') {
+            throw new IllegalArgumentException(
+                    "Invalid " + dateType + " date: " + line.substring(start, end));
+        }
+
+        int year = parseDigits(line, start, start + 4);
+        int month = parseDigits(line, start + 5, start + 7);
+        int day = parseDigits(line, start + 8, end);
+        if (year < 0 || month < 0 || day < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid " + dateType + " date: " + line.substring(start, end));
+        }
+
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(
+                    "Invalid " + dateType + " date: " + line.substring(start, end), e);
+        }
+    }
+
+    /**
+     * Parses a run of ASCII digits.
+     *
+     * @param line text holding the digits
+     * @param start index of the first digit
+     * @param end index one past the last digit
+     * @return parsed value, or -1 if the range contains a non-digit
+     */
+    private static int parseDigits(String line, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the index of the first non-whitespace character at or after {@code index}.
+     *
+     * @param line text to scan
+     * @param index index to start from
+     * @param end index to stop at
+     * @return index of the first non-whitespace character, or {@code end}
+     */
+    private static int skipWhitespace(String line, int index, int end) {
+        while (index < end && Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -1,13 +1,15 @@
 package audrey.storage;
 
+import java.util.ArrayList;
+import java.util.Collections;
+
 import audrey.task.List;
+import audrey.task.Task;
 
-/** Processes task lines from storage files by delegating to appropriate parsers. */
+/** Processes task lines from storage files by delegating to the task line lexer. */
 public class TaskLineProcessor extends BaseStorageOperation {
 
-    private final TodoParser todoParser;
-    private final DeadlineParser deadlineParser;
-    private final EventParser eventParser;
+    private final TaskLineLexer lexer;
 
     /**
      * Builds a processor that dispatches lines to the appropriate task parser.
@@ -16,54 +18,63 @@ public class TaskLineProcessor extends BaseStorageOperation {
      */
     public TaskLineProcessor(List toDoList) {
         super(toDoList);
-        this.todoParser = new TodoParser(toDoList);
-        this.deadlineParser = new DeadlineParser(toDoList);
-        this.eventParser = new EventParser(toDoList);
+        this.lexer = new TaskLineLexer(toDoList);
     }
 
+    /**
+     * Parses a task line and adds the task to the list, printing any problem with the line.
+     *
+     * @param line The line to parse
+     */
     @Override
     public void execute(String line) {
-        parseTaskLine(line);
+        ArrayList<String> problems = new ArrayList<>();
+        Task task = parseTask(line, problems);
+        for (String problem : problems) {
+            System.err.println(problem);
+        }
+        if (task != null) {
+            toDoList.addAll(Collections.singletonList(task));
+        }
     }
 
     /**
-     * Parses a task line by determining its type and delegating to the appropriate parser.
+     * Parses a task line with the single-pass {@link TaskLineLexer}. The task is returned rather
+     * than added so callers can append many tasks in one batch, and problems with the line are
+     * handed back rather than printed so callers on other threads can report them in order.
      *
      * @param line The line to parse
+     * @param problems list the warnings and errors about the line are added to
+     * @return the parsed task, or null if the line is empty or could not be parsed
      */
-    private void parseTaskLine(String line) {
+    public Task parseTask(String line, ArrayList<String> problems) {
         // Assert: Line should not be null or empty
         assert line != null : "Line to parse cannot be null";
+        assert problems != null : "Problem list cannot be null";
 
         String trimmedLine = line.trim();
         if (trimmedLine.isEmpty()) {
-            return; // Skip empty lines
+            return null; // Skip empty lines
         }
 
         // Validate line length
         if (trimmedLine.length() > MAX_LINE_LENGTH) {
-            System.out.println(
-                    "Warning: Line is very long ("
-                            + trimmedLine.length()
-                            + " characters): "
-                            + trimmedLine.substring(0, Math.min(50, trimmedLine.length()))
-                            + "...");
+            problems.add("Warning: Line is very long ("
+                    + trimmedLine.length()
+                    + " characters): "
+                    + trimmedLine.substring(0, Math.min(50, trimmedLine.length()))
+                    + "...");
         }
 
         try {
-            if (TodoParser.isTodoLine(trimmedLine)) {
-                todoParser.execute(trimmedLine);
-            } else if (DeadlineParser.isDeadlineLine(trimmedLine)) {
-                deadlineParser.execute(trimmedLine);
-            } else if (EventParser.isEventLine(trimmedLine)) {
-                eventParser.execute(trimmedLine);
-            } else {
-                System.out.println(
-                        "Warning: Unrecognized task format, skipping line: " + trimmedLine);
+            Task task = lexer.parse(trimmedLine);
+            if (task == null) {
+                problems.add("Warning: Unrecognized task format, skipping line: " + trimmedLine);
             }
+            return task;
         } catch (Exception e) {
-            System.err.println("Error parsing line: " + trimmedLine);
-            System.err.println("Error details: " + e.getMessage());
+            problems.add("Error parsing line: " + trimmedLine + " (" + e.getMessage() + ")");
         }
+        return null;
     }
 }
@@ -0,0 +1,123 @@
+package audrey.storage;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import audrey.task.List;
+import audrey.task.ListChange;
+import audrey.task.Task;
+import audrey.task.TaskListListener;
+
+/**
+ * Persists the task list in the background shortly after it changes. Every mutation marks the list
+ * dirty; the first one schedules a flush {@code flushIntervalMillis} later on a dedicated thread,
+ * and mutations arriving before that flush runs are coalesced into it. A change therefore reaches
+ * disk at most one interval (plus the write itself) after it was made, and flushes are never closer
+ * together than one interval.
+ */
+public class WriteBehindFlusher implements TaskListListener {
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final List toDoList;
+    private final SnapshotWriter snapshotWriter;
+    private final long flushIntervalMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicBoolean isDirty;
+    private final AtomicBoolean isFlushScheduled;
+
+    /**
+     * Builds a write-behind flusher for the given list.
+     *
+     * @param toDoList task list to persist
+     * @param snapshotWriter writer used to persist snapshots
+     * @param flushIntervalMillis delay between the first unsaved change and its flush
+     */
+    public WriteBehindFlusher(List toDoList, SnapshotWriter snapshotWriter,
+            long flushIntervalMillis) {
+        assert toDoList != null : "Todo list cannot be null";
+        assert snapshotWriter != null : "Snapshot writer cannot be null";
+        assert flushIntervalMillis >= 0 : "Flush interval cannot be negative";
+
+        this.toDoList = toDoList;
+        this.snapshotWriter = snapshotWriter;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.isDirty = new AtomicBoolean(false);
+        this.isFlushScheduled = new AtomicBoolean(false);
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "audrey-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A pending flush is replaced by the synchronous flush in close()
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    @Override
+    public void onTaskListChanged(ListChange change, int taskIndex, Task task) {
+        isDirty.set(true);
+        scheduleFlush();
+    }
+
+    /**
+     * Checks whether there are changes that have not been flushed yet.
+     *
+     * @return true if the list changed since the last flush
+     */
+    public boolean isDirty() {
+        return isDirty.get();
+    }
+
+    /**
+     * Writes the list now if it has unsaved changes.
+     *
+     * @return true if the list is clean afterwards
+     */
+    public boolean flush() {
+        if (!isDirty.getAndSet(false)) {
+            return true;
+        }
+        if (snapshotWriter.writeSnapshot(toDoList.snapshot(), BaseStorageOperation.NO_GENERATION)) {
+            return true;
+        }
+
+        isDirty.set(true);
+        return false;
+    }
+
+    /** Stops the background thread and synchronously flushes any remaining changes. */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Warning: Background flush still running at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /** Schedules a background flush unless one is already pending. */
+    private void scheduleFlush() {
+        if (!isFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.schedule(this::runScheduledFlush, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closing; the synchronous flush in close() picks up the change
+            isFlushScheduled.set(false);
+        }
+    }
+
+    /** Runs a scheduled flush, retrying after another interval if the write failed. */
+    private void runScheduledFlush() {
+        isFlushScheduled.set(false);
+        if (!flush()) {
+            scheduleFlush();
+        }
+    }
+}
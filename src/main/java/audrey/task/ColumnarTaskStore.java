@@ -0,0 +1,175 @@
+package audrey.task;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import audrey.exception.WrongFromToOrientationException;
+
+/**
+ * Task storage that keeps tasks as primitive columns instead of objects: a type byte, a completion
+ * bit, dates as epoch days and descriptions packed back to back in one shared character arena.
+ * A task costs a few dozen bytes plus its description instead of several objects with headers
+ * and references. Tasks are rebuilt from the columns whenever they are read, so callers get a
+ * fresh object each time and must hand changes back through {@link #update(int, Task)}.
+ */
+class ColumnarTaskStore extends TaskStore {
+    private static final byte TODO = 0;
+    private static final byte DEADLINE = 1;
+    private static final byte EVENT = 2;
+    private static final int NOT_SNOOZED = Integer.MIN_VALUE;
+    private static final int SNOOZED_FOREVER = Integer.MAX_VALUE;
+    private static final int INITIAL_ARENA_CAPACITY = 256;
+
+    private final BitSet completed;
+    private byte[] types;
+    private int[] firstDates;
+    private int[] secondDates;
+    private int[] snoozeDays;
+    private int[] descriptionEnds;
+    private char[] arena;
+
+    /** Builds empty storage. */
+    ColumnarTaskStore() {
+        completed = new BitSet();
+        types = new byte[INITIAL_CAPACITY];
+        firstDates = new int[INITIAL_CAPACITY];
+        secondDates = new int[INITIAL_CAPACITY];
+        snoozeDays = new int[INITIAL_CAPACITY];
+        descriptionEnds = new int[INITIAL_CAPACITY];
+        arena = new char[INITIAL_ARENA_CAPACITY];
+    }
+
+    @Override
+    protected Task readSlot(int slot) {
+        int start = descriptionStart(slot);
+        String description = new String(arena, start, descriptionEnds[slot] - start);
+        boolean isCompleted = completed.get(slot);
+        LocalDate snoozeUntil = decodeSnooze(snoozeDays[slot]);
+
+        Task task;
+        switch (types[slot]) {
+        case DEADLINE:
+            task = Deadline.of(description, LocalDate.ofEpochDay(firstDates[slot]), isCompleted,
+                    snoozeUntil);
+            break;
+        case EVENT:
+            try {
+                task = Event.of(description, LocalDate.ofEpochDay(firstDates[slot]),
+                        LocalDate.ofEpochDay(secondDates[slot]), isCompleted, snoozeUntil);
+            } catch (WrongFromToOrientationException e) {
+                throw new IllegalStateException("Stored event has its dates reversed", e);
+            }
+            break;
+        default:
+            task = Todo.of(description, isCompleted, snoozeUntil);
+            break;
+        }
+        task.setId(getId(slot));
+        return task;
+    }
+
+    @Override
+    protected void writeSlot(int slot, Task task) {
+        if (slot == types.length) {
+            int capacity = types.length * 2;
+            types = Arrays.copyOf(types, capacity);
+            firstDates = Arrays.copyOf(firstDates, capacity);
+            secondDates = Arrays.copyOf(secondDates, capacity);
+            snoozeDays = Arrays.copyOf(snoozeDays, capacity);
+            descriptionEnds = Arrays.copyOf(descriptionEnds, capacity);
+        }
+
+        if (task instanceof Deadline) {
+            types[slot] = DEADLINE;
+            firstDates[slot] = Math.toIntExact(((Deadline) task).getDeadline().toEpochDay());
+        } else if (task instanceof Event) {
+            types[slot] = EVENT;
+            firstDates[slot] = Math.toIntExact(((Event) task).getFrom().toEpochDay());
+            secondDates[slot] = Math.toIntExact(((Event) task).getTo().toEpochDay());
+        } else {
+            types[slot] = TODO;
+        }
+
+        String description = task.getDescription();
+        int start = descriptionStart(slot);
+        int end = start + description.length();
+        if (end > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, end));
+        }
+        description.getChars(0, description.length(), arena, start);
+        descriptionEnds[slot] = end;
+
+        update(slot, task);
+    }
+
+    @Override
+    protected void clearSlot(int slot) {
+        // The description stays in the arena until compaction moves later ones over it
+        completed.clear(slot);
+    }
+
+    @Override
+    protected void moveSlot(int from, int to) {
+        int fromStart = descriptionStart(from);
+        int length = descriptionEnds[from] - fromStart;
+        int toStart = descriptionStart(to);
+        System.arraycopy(arena, fromStart, arena, toStart, length);
+        descriptionEnds[to] = toStart + length;
+
+        types[to] = types[from];
+        firstDates[to] = firstDates[from];
+        secondDates[to] = secondDates[from];
+        snoozeDays[to] = snoozeDays[from];
+        completed.set(to, completed.get(from));
+    }
+
+    @Override
+    void update(int slot, Task task) {
+        completed.set(slot, task.isCompleted());
+        snoozeDays[slot] = encodeSnooze(task.getSnoozeUntil());
+    }
+
+    /**
+     * Returns where a slot's description starts in the arena. Descriptions are stored in slot
+     * order, so it starts where the previous slot's ends.
+     *
+     * @param slot 0-based slot
+     * @return arena offset of the description
+     */
+    private int descriptionStart(int slot) {
+        return slot == 0 ? 0 : descriptionEnds[slot - 1];
+    }
+
+    /**
+     * Encodes a snooze date as an epoch day.
+     *
+     * @param snoozeUntil snooze date, LocalDate.MAX for forever, or null if not snoozed
+     * @return encoded snooze
+     */
+    private static int encodeSnooze(LocalDate snoozeUntil) {
+        if (snoozeUntil == null) {
+            return NOT_SNOOZED;
+        }
+        if (snoozeUntil.equals(LocalDate.MAX)) {
+            return SNOOZED_FOREVER;
+        }
+        return Math.toIntExact(snoozeUntil.toEpochDay());
+    }
+
+    /**
+     * Decodes a snooze date stored by {@link #encodeSnooze(LocalDate)}.
+     *
+     * @param snoozeDay encoded snooze
+     * @return snooze date, LocalDate.MAX for forever, or null if not snoozed
+     */
+    private static LocalDate decodeSnooze(int snoozeDay) {
+        if (snoozeDay == NOT_SNOOZED) {
+            return null;
+        }
+        if (snoozeDay == SNOOZED_FOREVER) {
+            return LocalDate.MAX;
+        }
+        return LocalDate.ofEpochDay(snoozeDay);
+    }
+}
@@ -0,0 +1,85 @@
+package audrey.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Sorted index from dates to the ids of the tasks falling on them. Deadlines are filed under the
+ * date they are due and events under the date they start; todos have no date and are not indexed.
+ * A range query walks only the dates inside the range, so it costs O(log n + k) for k matches.
+ */
+class DateIndex {
+    private final TreeMap<LocalDate, TreeSet<Long>> idsByDate;
+
+    /** Builds an empty index. */
+    DateIndex() {
+        idsByDate = new TreeMap<>();
+    }
+
+    /**
+     * Returns the date a task is filed under.
+     *
+     * @param task task to look at
+     * @return due date of a deadline, start date of an event, or null for other tasks
+     */
+    static LocalDate dateOf(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDeadline();
+        }
+        if (task instanceof Event) {
+            return ((Event) task).getFrom();
+        }
+        return null;
+    }
+
+    /**
+     * Adds a task under its date.
+     *
+     * @param task task to index
+     */
+    void add(Task task) {
+        LocalDate date = dateOf(task);
+        if (date != null) {
+            idsByDate.computeIfAbsent(date, key -> new TreeSet<>()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task task to remove
+     */
+    void remove(Task task) {
+        LocalDate date = dateOf(task);
+        if (date == null) {
+            return;
+        }
+        TreeSet<Long> ids = idsByDate.get(date);
+        if (ids != null) {
+            ids.remove(task.getId());
+            if (ids.isEmpty()) {
+                idsByDate.remove(date);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of tasks filed under a date in the given range, ordered by date and then by
+     * id.
+     *
+     * @param from first date of the range
+     * @param to last date of the range, inclusive
+     * @return ids of the tasks in the range
+     */
+    ArrayList<Long> findBetween(LocalDate from, LocalDate to) {
+        ArrayList<Long> ids = new ArrayList<>();
+        for (Map.Entry<LocalDate, TreeSet<Long>> entry
+                : idsByDate.subMap(from, true, to, true).entrySet()) {
+            ids.addAll(entry.getValue());
+        }
+        return ids;
+    }
+}
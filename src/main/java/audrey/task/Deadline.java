@@ -9,6 +9,7 @@ import audrey.exception.MissingDeadlineException;
 public class Deadline extends Task {
     private static final String BY_DELIMITER = "/by";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final MessageTemplate RENDER_TEMPLATE = MessageTemplate.compile("[D]%s (by:%s)");
     private static final int EXPECTED_PARTS_COUNT = 2;
     private static final String DATE_PATTERN = "\\d{4}-\\d{2}-\\d{2}";
     private static final int YEARS_BACK_VALIDATION = 10;
@@ -43,6 +44,29 @@ public class Deadline extends Task {
         assert deadline != null : "Deadline should be properly initialized";
     }
 
+    private Deadline(String description, LocalDate deadline, boolean completed,
+            LocalDate snoozeUntil) {
+        super(description, completed, snoozeUntil);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates a deadline from already parsed fields without re-parsing a command string.
+     *
+     * @param description Description of the task
+     * @param deadline Date the task is due
+     * @param completed Whether the task is completed
+     * @param snoozeUntil Snooze date, LocalDate.MAX for forever, or null if not snoozed
+     * @return the deadline task
+     */
+    public static Deadline of(String description, LocalDate deadline, boolean completed,
+            LocalDate snoozeUntil) {
+        // Assert: Deadline should be provided
+        assert deadline != null : "Deadline cannot be null";
+
+        return new Deadline(description, deadline, completed, snoozeUntil);
+    }
+
     /**
      * Process task detail to sieve out task description.
      *
@@ -122,13 +146,13 @@ public class Deadline extends Task {
             LocalDate parsedDate = LocalDate.parse(trimmedDate);
 
             // Validate date is not too far in the past
-            LocalDate earliestValidDate = LocalDate.now().minusYears(YEARS_BACK_VALIDATION);
+            LocalDate earliestValidDate = TaskClock.today().minusYears(YEARS_BACK_VALIDATION);
             if (parsedDate.isBefore(earliestValidDate)) {
                 throw new MissingDeadlineException("Date too far in the past: " + trimmedDate);
             }
 
             // Validate date is not too far in the future
-            LocalDate latestValidDate = LocalDate.now().plusYears(YEARS_FORWARD_VALIDATION);
+            LocalDate latestValidDate = TaskClock.today().plusYears(YEARS_FORWARD_VALIDATION);
             if (parsedDate.isAfter(latestValidDate)) {
                 throw new MissingDeadlineException("Date too far in the future: " + trimmedDate);
             }
@@ -191,8 +215,17 @@ public class Deadline extends Task {
         }
     }
 
+    /**
+     * Returns the date this task is due.
+     *
+     * @return deadline date
+     */
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
     @Override
-    public String toString() {
-        return String.format("[D]%s (by:%s)", super.toString(), deadline.format(DATE_FORMAT));
+    protected String render() {
+        return RENDER_TEMPLATE.fill(super.render(), deadline.format(DATE_FORMAT));
     }
 }
@@ -11,6 +11,8 @@ public class Event extends Task {
     private static final String FROM_DELIMITER = "/from";
     private static final String TO_DELIMITER = "/to";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final MessageTemplate RENDER_TEMPLATE =
+            MessageTemplate.compile("[E]%s (from:%s to:%s)");
     private static final int EXPECTED_PARTS_COUNT = 2;
 
     private final LocalDate from;
@@ -41,6 +43,35 @@ public class Event extends Task {
         assert !from.isAfter(to) : "From date should not be after to date";
     }
 
+    private Event(String description, LocalDate from, LocalDate to, boolean completed,
+            LocalDate snoozeUntil) {
+        super(description, completed, snoozeUntil);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates an event from already parsed fields without re-parsing a command string.
+     *
+     * @param description Description of the task
+     * @param from Date the event starts
+     * @param to Date the event ends
+     * @param completed Whether the task is completed
+     * @param snoozeUntil Snooze date, LocalDate.MAX for forever, or null if not snoozed
+     * @return the event task
+     * @throws WrongFromToOrientationException If from date is after to date
+     */
+    public static Event of(String description, LocalDate from, LocalDate to, boolean completed,
+            LocalDate snoozeUntil) throws WrongFromToOrientationException {
+        // Assert: Both dates should be provided
+        assert from != null && to != null : "Event dates cannot be null";
+
+        if (from.isAfter(to)) {
+            throw new WrongFromToOrientationException();
+        }
+        return new Event(description, from, to, completed, snoozeUntil);
+    }
+
     /**
      * Process task description from task detail.
      *
@@ -134,10 +165,27 @@ public class Event extends Task {
         }
     }
 
+    /**
+     * Returns the date this event starts.
+     *
+     * @return start date
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the date this event ends.
+     *
+     * @return end date
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
     @Override
-    public String toString() {
-        return String.format(
-                "[E]%s (from:%s to:%s)",
-                super.toString(), from.format(DATE_FORMAT), to.format(DATE_FORMAT));
+    protected String render() {
+        return RENDER_TEMPLATE.fill(
+                super.render(), from.format(DATE_FORMAT), to.format(DATE_FORMAT));
     }
 }
@@ -0,0 +1,131 @@
+package audrey.task;
+
+import java.util.Arrays;
+
+/**
+ * Binary indexed tree over a growable array of 0/1 flags. It answers how many flags are set up to
+ * a position and which position holds the k-th set flag in O(log n), and supports setting a flag
+ * and appending one in O(log n) as well. Positions are 1-based.
+ */
+class FenwickTree {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] tree;
+    private boolean[] flags;
+    private int size;
+
+    /** Builds an empty tree. */
+    FenwickTree() {
+        tree = new int[INITIAL_CAPACITY + 1];
+        flags = new boolean[INITIAL_CAPACITY + 1];
+    }
+
+    /**
+     * Returns the number of positions in the tree.
+     *
+     * @return number of flags
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Replaces the contents of the tree in O(n).
+     *
+     * @param newFlags flags for positions 1 to {@code newFlags.length}
+     */
+    void rebuild(boolean[] newFlags) {
+        size = newFlags.length;
+        tree = new int[Math.max(size, INITIAL_CAPACITY) + 1];
+        flags = new boolean[tree.length];
+        for (int i = 1; i <= size; i++) {
+            flags[i] = newFlags[i - 1];
+            tree[i] += flags[i] ? 1 : 0;
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Appends a flag after the last position.
+     *
+     * @param flag value of the new flag
+     */
+    void append(boolean flag) {
+        if (size + 1 == tree.length) {
+            tree = Arrays.copyOf(tree, tree.length * 2);
+            flags = Arrays.copyOf(flags, flags.length * 2);
+        }
+        int position = ++size;
+        flags[position] = flag;
+        // A node covers the positions (position - lowbit, position], all but the last already added
+        tree[position] = (flag ? 1 : 0) + prefixSum(position - 1)
+                - prefixSum(position - (position & -position));
+    }
+
+    /**
+     * Sets the flag at a position.
+     *
+     * @param position 1-based position
+     * @param flag new value
+     */
+    void set(int position, boolean flag) {
+        assert position >= 1 && position <= size : "Position out of range: " + position;
+
+        if (flags[position] == flag) {
+            return;
+        }
+        flags[position] = flag;
+        int delta = flag ? 1 : -1;
+        for (int i = position; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Counts the set flags at or before a position.
+     *
+     * @param position 1-based position, or 0 for none
+     * @return number of set flags in positions 1 to {@code position}
+     */
+    int prefixSum(int position) {
+        int sum = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Finds the position of the k-th set flag.
+     *
+     * @param rank 1-based rank among set flags
+     * @return position of that flag, or -1 if fewer than {@code rank} flags are set
+     */
+    int findByRank(int rank) {
+        if (rank <= 0 || rank > prefixSum(size)) {
+            return -1;
+        }
+        int position = 0;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= size && tree[next] < rank) {
+                position = next;
+                rank -= tree[next];
+            }
+        }
+        return position + 1;
+    }
+
+    /**
+     * Returns the flag at a position.
+     *
+     * @param position 1-based position
+     * @return value of the flag
+     */
+    boolean get(int position) {
+        return flags[position];
+    }
+}
@@ -0,0 +1,225 @@
+package audrey.task;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * BK-tree over the words of task descriptions, used for typo-tolerant search. Every node holds a
+ * word and the ids of the tasks using it, and children are keyed by their edit distance to the
+ * node. By the triangle inequality a search within distance {@code d} of a query only needs to
+ * visit children whose key is within {@code d} of the query's distance to the node, so most of
+ * the vocabulary is never compared.
+ *
+ * <p>Words are lower-cased. Words no longer used by any task stay in the tree with no ids and are
+ * skipped by searches.
+ */
+class FuzzyWordIndex {
+    private final HashMap<Long, String[]> wordsById;
+    private Node root;
+
+    /** Builds an empty index. */
+    FuzzyWordIndex() {
+        wordsById = new HashMap<>();
+    }
+
+    /**
+     * Adds a task under the words of its description.
+     *
+     * @param task task to index
+     */
+    void add(Task task) {
+        String[] words = splitWords(task.getDescription());
+        wordsById.put(task.getId(), words);
+        for (String word : words) {
+            insert(word).ids.add(task.getId());
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task task to remove
+     */
+    void remove(Task task) {
+        String[] words = wordsById.remove(task.getId());
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Node node = find(word);
+            if (node != null) {
+                node.ids.remove(task.getId());
+            }
+        }
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain a word within the given edit distance of every
+     * word of the query.
+     *
+     * @param query one or more words to look for
+     * @param maxDistance largest edit distance accepted per word
+     * @return map from matching task id to the sum over query words of the closest distance
+     */
+    HashMap<Long, Integer> search(String query, int maxDistance) {
+        String[] queryWords = splitWords(query);
+        HashMap<Long, Integer> scores = null;
+
+        for (String queryWord : queryWords) {
+            HashMap<Long, Integer> wordScores = new HashMap<>();
+            collect(root, queryWord, maxDistance, wordScores);
+
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                HashMap<Long, Integer> combined = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                    Integer distance = wordScores.get(entry.getKey());
+                    if (distance != null) {
+                        combined.put(entry.getKey(), entry.getValue() + distance);
+                    }
+                }
+                scores = combined;
+            }
+        }
+        return scores == null ? new HashMap<>() : scores;
+    }
+
+    /**
+     * Adds every task under a word within {@code maxDistance} of the query word to the scores,
+     * keeping the closest distance per task.
+     *
+     * @param node subtree to search
+     * @param queryWord word to look for
+     * @param maxDistance largest edit distance accepted
+     * @param scores closest distance found so far per task id
+     */
+    private static void collect(Node node, String queryWord, int maxDistance,
+            HashMap<Long, Integer> scores) {
+        if (node == null) {
+            return;
+        }
+
+        int distance = editDistance(queryWord, node.word);
+        if (distance <= maxDistance) {
+            for (Long id : node.ids) {
+                scores.merge(id, distance, Math::min);
+            }
+        }
+        for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+            if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                collect(child.getValue(), queryWord, maxDistance, scores);
+            }
+        }
+    }
+
+    /**
+     * Returns the node for a word, inserting it if it is not in the tree yet.
+     *
+     * @param word word to insert
+     * @return node holding the word
+     */
+    private Node insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return root;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = editDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(word);
+                node.children.put(distance, child);
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the node holding exactly the given word.
+     *
+     * @param word word to look up
+     * @return node holding the word, or null if the word was never inserted
+     */
+    private Node find(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = editDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words.
+     *
+     * @param first first word
+     * @param second second word
+     * @return number of single-character insertions, deletions and substitutions needed
+     */
+    static int editDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+                        previous[j - 1] + substitution);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Splits text into its distinct lower-cased words.
+     *
+     * @param text text to split
+     * @return distinct maximal runs of letters and digits, lower-cased
+     */
+    private static String[] splitWords(String text) {
+        HashSet<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /** BK-tree node holding one word. */
+    private static class Node {
+        private final String word;
+        private final HashSet<Long> ids;
+        private final HashMap<Integer, Node> children;
+
+        private Node(String word) {
+            this.word = word;
+            this.ids = new HashSet<>();
+            this.children = new HashMap<>();
+        }
+    }
+}
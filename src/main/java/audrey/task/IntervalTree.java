@@ -0,0 +1,212 @@
+package audrey.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * Interval tree over the date ranges of events. It is a treap ordered by start date and then by
+ * task id, where every node also records the latest end date in its subtree. A search for events
+ * overlapping a range skips every subtree whose latest end is before the range and every right
+ * subtree whose node starts after it, so reporting k overlaps costs O(log n + k) on average
+ * instead of a pass over all events. Random priorities keep the tree balanced in expectation
+ * whatever order events are added in.
+ */
+class IntervalTree {
+    private final SplittableRandom random;
+    private Node root;
+    private int size;
+
+    /** Builds an empty tree. */
+    IntervalTree() {
+        random = new SplittableRandom();
+    }
+
+    /**
+     * Returns the number of events in the tree.
+     *
+     * @return number of events
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds an event.
+     *
+     * @param event event to add
+     */
+    void add(Event event) {
+        Node node = new Node(event, random.nextInt());
+        Node[] parts = split(root, node.start, node.id);
+        root = merge(merge(parts[0], node), parts[1]);
+        size++;
+    }
+
+    /**
+     * Removes an event.
+     *
+     * @param event event to remove
+     */
+    void remove(Event event) {
+        int before = size;
+        root = remove(root, event.getFrom().toEpochDay(), event.getId());
+        assert size == before - 1 || size == before : "At most one event should be removed";
+    }
+
+    /**
+     * Returns the ids of the events whose dates overlap the given range, ordered by start date
+     * and then by id. Ranges are inclusive, so events sharing a single day overlap.
+     *
+     * @param from first date of the range
+     * @param to last date of the range, inclusive
+     * @return ids of the overlapping events
+     */
+    ArrayList<Long> findOverlapping(LocalDate from, LocalDate to) {
+        ArrayList<Long> ids = new ArrayList<>();
+        collect(root, from.toEpochDay(), to.toEpochDay(), ids);
+        return ids;
+    }
+
+    /**
+     * Adds the ids of the events of a subtree that overlap a range, in order.
+     *
+     * @param node subtree to search
+     * @param from first epoch day of the range
+     * @param to last epoch day of the range
+     * @param ids list receiving the ids of overlapping events
+     */
+    private static void collect(Node node, long from, long to, ArrayList<Long> ids) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, ids);
+        if (node.start > to) {
+            // Everything to the right starts even later
+            return;
+        }
+        if (node.end >= from) {
+            ids.add(node.id);
+        }
+        collect(node.right, from, to, ids);
+    }
+
+    /**
+     * Removes the node with the given key from a subtree.
+     *
+     * @param node subtree to remove from
+     * @param start start epoch day of the event
+     * @param id id of the event
+     * @return subtree without the node
+     */
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, id, node);
+        if (comparison == 0) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, start, id);
+        } else {
+            node.right = remove(node.right, start, id);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Splits a subtree into the nodes ordered before a key and the nodes ordered after it.
+     *
+     * @param node subtree to split
+     * @param start start epoch day of the key
+     * @param id id of the key
+     * @return the lower and the upper part
+     */
+    private static Node[] split(Node node, long start, long id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(start, id, node) <= 0) {
+            Node[] parts = split(node.left, start, id);
+            node.left = parts[1];
+            node.update();
+            parts[1] = node;
+            return parts;
+        }
+        Node[] parts = split(node.right, start, id);
+        node.right = parts[0];
+        node.update();
+        parts[0] = node;
+        return parts;
+    }
+
+    /**
+     * Joins two subtrees where every node of the first is ordered before every node of the second.
+     *
+     * @param lower subtree holding the smaller keys
+     * @param upper subtree holding the larger keys
+     * @return joined subtree
+     */
+    private static Node merge(Node lower, Node upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.update();
+            return lower;
+        }
+        upper.left = merge(lower, upper.left);
+        upper.update();
+        return upper;
+    }
+
+    /**
+     * Compares a key with the key of a node.
+     *
+     * @param start start epoch day of the key
+     * @param id id of the key
+     * @param node node to compare with
+     * @return negative, zero or positive as the key is before, equal to or after the node
+     */
+    private static int compare(long start, long id, Node node) {
+        int comparison = Long.compare(start, node.start);
+        return comparison != 0 ? comparison : Long.compare(id, node.id);
+    }
+
+    /** Treap node holding the dates and id of one event. */
+    private static class Node {
+        private final long start;
+        private final long end;
+        private final long id;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(Event event, int priority) {
+            this.start = event.getFrom().toEpochDay();
+            this.end = event.getTo().toEpochDay();
+            this.id = event.getId();
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        /** Recomputes the latest end date of the subtree after its children changed. */
+        private void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
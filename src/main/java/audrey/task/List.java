@@ -1,9 +1,14 @@
 package audrey.task;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 
 import audrey.exception.MissingDeadlineException;
 import audrey.exception.MissingEventException;
@@ -11,31 +16,132 @@ import audrey.exception.WrongFromToOrientationException;
 
 /** List object manages and hold task objects */
 public class List {
-    private static final String TASK_ADDED_FORMAT =
-            "Got it. I've added this task:\n   %s\n" + "Now you have %s tasks in the list.";
-    private static final String TASK_MARKED_FORMAT = "Nice! I've marked this task as done!:\n   %s";
-    private static final String TASK_UNMARKED_FORMAT =
-            "Ok! I've marked this task as not done yet!:\n   %s";
-    private static final String TASK_DELETED_FORMAT =
-            "Removing this task!\n %s\nNow you have %s task in your list!";
+    private static final MessageTemplate TASK_ADDED_TEMPLATE = MessageTemplate.compile(
+            "Got it. I've added this task:\n   %s\n" + "Now you have %s tasks in the list.");
+    private static final MessageTemplate TASK_MARKED_TEMPLATE =
+            MessageTemplate.compile("Nice! I've marked this task as done!:\n   %s");
+    private static final MessageTemplate TASK_UNMARKED_TEMPLATE =
+            MessageTemplate.compile("Ok! I've marked this task as not done yet!:\n   %s");
+    private static final MessageTemplate TASK_DELETED_TEMPLATE =
+            MessageTemplate.compile("Removing this task!\n %s\nNow you have %s task in your list!");
     private static final String TASK_NOT_EXIST_MSG = "Task does not exist!";
     private static final String INVALID_DATE_FORMAT_MSG =
             "Invalid Format for date. " + "Enter: YYYY-MM-DD . E.g.: 2018-03-07";
     private static final String INVALID_TIME_DATE_MSG = "Invalid time date";
     private static final String LIST_HEADER = "Here are the tasks in your list:\n";
+    private static final String NO_ACTIVE_TASKS_MSG = "No active tasks!";
+    private static final MessageTemplate PAGE_FOOTER_TEMPLATE =
+            MessageTemplate.compile("Page %d of %d (%d active tasks)");
+    private static final MessageTemplate PAGE_NOT_EXIST_TEMPLATE =
+            MessageTemplate.compile("Page %d does not exist. There are %d pages.");
     private static final String SNOOZE_HEADER = "Here are the tasks you can snooze:\n";
-    private static final String TASK_SNOOZED_FOREVER_FORMAT = "Task snoozed forever:\n   %s";
-    private static final String TASK_SNOOZED_UNTIL_FORMAT = "Task snoozed until %s:\n   %s";
+    private static final MessageTemplate TASK_SNOOZED_FOREVER_TEMPLATE =
+            MessageTemplate.compile("Task snoozed forever:\n   %s");
+    private static final MessageTemplate TASK_SNOOZE_CHANGED_TO_FOREVER_TEMPLATE =
+            MessageTemplate.compile("Task snooze changed from date to forever:\n   %s");
+    private static final MessageTemplate TASK_SNOOZED_UNTIL_TEMPLATE =
+            MessageTemplate.compile("Task snoozed until %s:\n   %s");
+    private static final MessageTemplate TASK_SNOOZE_CHANGED_TO_DATE_TEMPLATE =
+            MessageTemplate.compile(
+                    "Task was snoozed forever, now changed to snooze until %s:\n   %s");
+    private static final MessageTemplate TASK_SNOOZE_DATE_UPDATED_TEMPLATE =
+            MessageTemplate.compile("Task snooze date updated to %s:\n   %s");
+    private static final MessageTemplate TASK_UNSNOOZED_TEMPLATE =
+            MessageTemplate.compile("Task unsnoozed:\n   %s");
     private static final String NO_TASKS_TO_SNOOZE_MSG = "No tasks available to snooze!";
     private static final String TASK_REACTIVATED_MSG = "Task reactivated:\n   %s";
 
-    private final ArrayList<Task> taskStorage;
+    private final TaskStore taskStorage;
+    private final ArrayList<TaskListListener> listeners;
+    private final TrigramIndex trigramIndex;
+    private final FuzzyWordIndex fuzzyWordIndex;
+    private final DateIndex dateIndex;
+    private final IntervalTree eventIntervals;
+    private final SnoozeWakeUpQueue wakeUpQueue;
+    private final FenwickTree activeFlags;
+    private boolean isActiveFlagsStale;
+    private boolean isSearchIndexed;
     private int count;
+    private long nextTaskId;
 
     /** Constructor for List class. Initializes an empty task storage. */
     public List() {
-        taskStorage = new ArrayList<>();
+        this(TaskLayout.OBJECTS);
+    }
+
+    /**
+     * Constructor for List class. Initializes an empty task storage with the given layout.
+     *
+     * @param layout how tasks are kept in memory
+     */
+    public List(TaskLayout layout) {
+        assert layout != null : "Task layout cannot be null";
+
+        taskStorage = layout == TaskLayout.COLUMNS
+                ? new ColumnarTaskStore()
+                : new ObjectTaskStore();
+        listeners = new ArrayList<>();
+        trigramIndex = new TrigramIndex();
+        fuzzyWordIndex = new FuzzyWordIndex();
+        dateIndex = new DateIndex();
+        eventIntervals = new IntervalTree();
+        wakeUpQueue = new SnoozeWakeUpQueue();
+        activeFlags = new FenwickTree();
+        isActiveFlagsStale = true;
         count = 0;
+        nextTaskId = 1;
+    }
+
+    /**
+     * Registers a listener that is notified after every successful mutation.
+     *
+     * @param listener listener to register
+     */
+    public void addListener(TaskListListener listener) {
+        assert listener != null : "Listener cannot be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Writes a changed task back to storage, updates the search indexes and snooze tracking and
+     * notifies all registered listeners of a change. Callers hold the list's lock, so listeners
+     * are notified while it is held.
+     *
+     * @param change kind of mutation applied
+     * @param taskIndex 1-based index of the affected task
+     * @param task affected task
+     */
+    private void notifyListeners(ListChange change, int taskIndex, Task task) {
+        if (change == ListChange.ADDED) {
+            wakeUpQueue.update(task);
+        } else if (change == ListChange.DELETED) {
+            wakeUpQueue.remove(task);
+        } else {
+            // Columnar storage hands out copies, so the change must be stored explicitly
+            taskStorage.update(taskStorage.slotOf(taskIndex - 1), task);
+            if (change == ListChange.SNOOZED || change == ListChange.UNSNOOZED) {
+                wakeUpQueue.update(task);
+            }
+        }
+        if (isSearchIndexed) {
+            updateSearchIndexes(change, task);
+        }
+        if (!isActiveFlagsStale) {
+            updateActiveFlags(change, taskIndex, task);
+        }
+
+        for (TaskListListener listener : listeners) {
+            listener.onTaskListChanged(change, taskIndex, task);
+        }
     }
 
     /**
@@ -101,7 +207,8 @@ public class List {
      * @param task Task to be added
      * @return Success message with task details
      */
-    private String addTaskToList(Task task) {
+    private synchronized String addTaskToList(Task task) {
+        task.setId(nextTaskId++);
         taskStorage.add(task);
         count++;
 
@@ -109,7 +216,24 @@ public class List {
         assert count == taskStorage.size() : "Count should match storage size after adding task";
         assert count > 0 : "Count should be positive after adding a task";
 
-        return String.format(TASK_ADDED_FORMAT, task.toString(), count);
+        notifyListeners(ListChange.ADDED, count, task);
+        return TASK_ADDED_TEMPLATE.fill(task, count);
+    }
+
+    /**
+     * Appends already constructed tasks to the end of the list in iteration order.
+     *
+     * @param tasks tasks to append
+     */
+    public synchronized void addAll(Collection<? extends Task> tasks) {
+        assert tasks != null : "Tasks to add cannot be null";
+
+        for (Task task : tasks) {
+            task.setId(nextTaskId++);
+            taskStorage.add(task);
+            count++;
+            notifyListeners(ListChange.ADDED, count, task);
+        }
     }
 
     /**
@@ -143,6 +267,31 @@ public class List {
         return LIST_HEADER + toStringActiveTasks();
     }
 
+    /**
+     * List out one page of active (non-snoozed) tasks. Only the tasks on the page are visited, so
+     * the cost depends on the page size rather than on the length of the list.
+     *
+     * @param page 1-based page number
+     * @param pageSize number of tasks per page
+     * @return message with the tasks on the page, or an error if the page does not exist
+     */
+    public String showListPage(int page, int pageSize) {
+        assert page > 0 : "Page number should be positive";
+        assert pageSize > 0 : "Page size should be positive";
+
+        int activeCount = activeSize();
+        int pageCount = Math.max(1, (activeCount + pageSize - 1) / pageSize);
+        if (page > pageCount) {
+            return PAGE_NOT_EXIST_TEMPLATE.fill(page, pageCount);
+        }
+
+        StringBuilder output = new StringBuilder(LIST_HEADER);
+        if (renderActiveTasks(output, (page - 1) * pageSize + 1, pageSize) == 0) {
+            return output.append(NO_ACTIVE_TASKS_MSG).toString();
+        }
+        return output.append(PAGE_FOOTER_TEMPLATE.fill(page, pageCount, activeCount)).toString();
+    }
+
     /**
      * List out all tasks including snoozed ones (for internal use)
      *
@@ -155,66 +304,77 @@ public class List {
     /**
      * Set specific task as marked
      *
-     * @param task index the task is at in the ArrayList
+     * @param task 1-based position of the task in the list
      * @return message confirming task is marked
      */
-    public String markTask(int task) {
+    public synchronized String markTask(int task) {
         if (!isValidTaskIndex(task)) {
             return TASK_NOT_EXIST_MSG;
         }
 
-        int correctedTaskIndex = task - 1;
-        taskStorage.get(correctedTaskIndex).markTask();
-        return String.format(TASK_MARKED_FORMAT, taskStorage.get(correctedTaskIndex));
+        Task markedTask = taskStorage.get(task - 1);
+        markedTask.markTask();
+        notifyListeners(ListChange.MARKED, task, markedTask);
+        return TASK_MARKED_TEMPLATE.fill(markedTask);
     }
 
     /**
      * Set specific task as unmarked
      *
-     * @param task index the task is at in the ArrayList
+     * @param task 1-based position of the task in the list
      * @return message confirming task is unmarked
      */
-    public String unmarkTask(int task) {
+    public synchronized String unmarkTask(int task) {
         if (!isValidTaskIndex(task)) {
             return TASK_NOT_EXIST_MSG;
         }
 
-        int correctedTaskIndex = task - 1;
-        taskStorage.get(correctedTaskIndex).unmarkTask();
-        return String.format(TASK_UNMARKED_FORMAT, taskStorage.get(correctedTaskIndex));
+        Task unmarkedTask = taskStorage.get(task - 1);
+        unmarkedTask.unmarkTask();
+        notifyListeners(ListChange.UNMARKED, task, unmarkedTask);
+        return TASK_UNMARKED_TEMPLATE.fill(unmarkedTask);
     }
 
     /**
      * Delete specific task from list
      *
-     * @param task index the task is at in the ArrayList
+     * @param task 1-based position of the task in the list
      * @return message confirming specifc task is deleted
      */
-    public String delete(int task) {
+    public synchronized String delete(int task) {
         if (!isValidTaskIndex(task)) {
             return TASK_NOT_EXIST_MSG;
         }
 
         int correctedTaskIndex = task - 1;
-        String output =
-                String.format(TASK_DELETED_FORMAT, taskStorage.get(correctedTaskIndex), count - 1);
-        taskStorage.remove(correctedTaskIndex);
+        int slot = taskStorage.slotOf(correctedTaskIndex);
+        Task removedTask = taskStorage.remove(correctedTaskIndex);
+        String output = TASK_DELETED_TEMPLATE.fill(removedTask, count - 1);
         count--;
 
         // Assert: After deletion, count should be consistent with storage size
         assert count == taskStorage.size() : "Count should match storage size after deletion";
         assert count >= 0 : "Count should not be negative after deletion";
 
+        if (!isActiveFlagsStale) {
+            activeFlags.set(slot + 1, false);
+        }
+        notifyListeners(ListChange.DELETED, task, removedTask);
+        if (taskStorage.compactIfSparse()) {
+            // Active flags are kept per slot
+            isActiveFlagsStale = true;
+        }
         return output;
     }
 
     @Override
     public String toString() {
-        String output = "";
-        for (int i = 0; i < count; i++) {
-            output += String.format("%s.%s\n", i + 1, taskStorage.get(i));
+        StringBuilder output = new StringBuilder();
+        int taskIndex = 1;
+        for (Task task : taskStorage) {
+            output.append(taskIndex++).append('.').append(task).append('\n');
         }
-        return output;
+        return output.toString();
     }
 
     /**
@@ -224,21 +384,110 @@ public class List {
      */
     public String toStringActiveTasks() {
         StringBuilder output = new StringBuilder();
-        int displayIndex = 1;
+        if (renderActiveTasks(output, 1, Integer.MAX_VALUE) == 0) {
+            return NO_ACTIVE_TASKS_MSG;
+        }
+        return output.toString();
+    }
+
+    /**
+     * Writes a run of active (non-snoozed) tasks, one line each, numbered as in
+     * {@link #showList()}. Rendering starts at the requested number, found in O(log n), and stops
+     * after {@code limit} tasks, so the work done depends on the number of lines written.
+     *
+     * @param out destination the lines are written to
+     * @param firstNumber display number of the first task to write
+     * @param limit largest number of tasks to write
+     * @return number of tasks written
+     * @throws IOException if writing to the destination fails
+     */
+    public int writeActiveTasks(Appendable out, int firstNumber, int limit) throws IOException {
+        assert out != null : "Destination cannot be null";
+        assert firstNumber > 0 : "Display number should be positive";
+        assert limit >= 0 : "Limit cannot be negative";
+
+        int storageIndex = toStorageIndex(firstNumber);
+        if (storageIndex < 0) {
+            return 0;
+        }
 
-        for (int i = 0; i < count; i++) {
-            Task task = taskStorage.get(i);
-            if (!task.isSnoozed()) {
-                output.append(String.format("%d.%s\n", displayIndex, task));
-                displayIndex++;
+        int number = firstNumber;
+        int slotCount = taskStorage.slotCount();
+        for (int slot = taskStorage.slotOf(storageIndex - 1);
+                slot < slotCount && number - firstNumber < limit; slot++) {
+            Task task = taskStorage.getSlot(slot);
+            if (task != null && !wakeUpQueue.isSnoozed(task)) {
+                appendTaskLine(out, number++, task);
             }
         }
+        return number - firstNumber;
+    }
 
-        if (displayIndex == 1) {
-            return "No active tasks!";
+    /**
+     * Renders a run of active tasks into a string builder, which never fails to append.
+     *
+     * @param output builder the lines are appended to
+     * @param firstNumber display number of the first task to write
+     * @param limit largest number of tasks to write
+     * @return number of tasks written
+     */
+    private int renderActiveTasks(StringBuilder output, int firstNumber, int limit) {
+        try {
+            return writeActiveTasks(output, firstNumber, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException("StringBuilder should not fail to append", e);
         }
+    }
 
-        return output.toString();
+    /**
+     * Writes one numbered task line.
+     *
+     * @param out destination the line is written to
+     * @param number number shown before the task
+     * @param task task to write
+     * @throws IOException if writing to the destination fails
+     */
+    private static void appendTaskLine(Appendable out, int number, Task task) throws IOException {
+        out.append(Integer.toString(number)).append('.').append(task.toString()).append('\n');
+    }
+
+    /**
+     * Returns the number of active (non-snoozed) tasks, i.e. the highest number shown by
+     * {@link #showList()}.
+     *
+     * @return number of active tasks
+     */
+    public int activeSize() {
+        ensureActiveFlags();
+        return activeFlags.prefixSum(activeFlags.size());
+    }
+
+    /**
+     * Converts the number a task has in {@link #showList()} to its position in the list, the
+     * number taken by {@link #markTask(int)}, {@link #delete(int)} and the other task commands.
+     *
+     * @param displayIndex 1-based number among active tasks
+     * @return 1-based position in the list, or -1 if no active task has that number
+     */
+    public int toStorageIndex(int displayIndex) {
+        ensureActiveFlags();
+        int slot = activeFlags.findByRank(displayIndex);
+        return slot < 0 ? -1 : taskStorage.positionOf(slot - 1) + 1;
+    }
+
+    /**
+     * Converts a task's position in the list to the number it has in {@link #showList()}.
+     *
+     * @param storageIndex 1-based position in the list
+     * @return 1-based number among active tasks, or -1 if the task is snoozed or does not exist
+     */
+    public int toDisplayIndex(int storageIndex) {
+        if (!isValidTaskIndex(storageIndex)) {
+            return -1;
+        }
+        ensureActiveFlags();
+        int slotPosition = taskStorage.slotOf(storageIndex - 1) + 1;
+        return activeFlags.get(slotPosition) ? activeFlags.prefixSum(slotPosition) : -1;
     }
 
     /**
@@ -250,6 +499,18 @@ public class List {
         return count;
     }
 
+    /**
+     * Returns a point-in-time copy of the tasks in list order. The copy is independent of later
+     * additions and deletions, which makes it safe to serialise on another thread. Every change to
+     * the list, including marking and snoozing, is synchronised with this method for the same
+     * reason, since the columnar layout writes task changes back into shared arrays.
+     *
+     * @return array of the tasks currently in the list
+     */
+    public synchronized Task[] snapshot() {
+        return taskStorage.toArray();
+    }
+
     /**
      * Get a task at specific index
      *
@@ -269,7 +530,112 @@ public class List {
     }
 
     /**
-     * Returns specific tasks which matches with given regex
+     * Looks up a task by id.
+     *
+     * @param id id of a task in the list
+     * @return the task
+     */
+    private Task taskById(long id) {
+        int slot = taskStorage.slotOfId(id);
+        assert slot >= 0 : "Indexed task should be in the list: " + id;
+        return taskStorage.getSlot(slot);
+    }
+
+    /**
+     * Wakes tasks whose snooze date has passed. Active flags are rebuilt on next use if any did,
+     * since the wake-up queue does not know the tasks' slots.
+     */
+    private void wakeExpiredSnoozes() {
+        if (wakeUpQueue.wakeExpired(TaskClock.today())) {
+            isActiveFlagsStale = true;
+        }
+    }
+
+    /**
+     * Applies a change to the active flags, which hold one flag per storage slot. Deletions clear
+     * their slot's flag in {@link #delete(int)}, where the slot is still known.
+     *
+     * @param change kind of mutation applied
+     * @param taskIndex 1-based index of the affected task
+     * @param task affected task
+     */
+    private void updateActiveFlags(ListChange change, int taskIndex, Task task) {
+        if (change == ListChange.ADDED) {
+            assert activeFlags.size() == taskStorage.slotCount() - 1 : "Added task should be last";
+            activeFlags.append(!wakeUpQueue.isSnoozed(task));
+        } else if (change == ListChange.SNOOZED || change == ListChange.UNSNOOZED) {
+            activeFlags.set(taskStorage.slotOf(taskIndex - 1) + 1, !wakeUpQueue.isSnoozed(task));
+        }
+    }
+
+    /**
+     * Brings the active flags up to date, rebuilding them after compaction, expired snoozes or on
+     * first use, so loading a large list does not pay for them until they are needed.
+     */
+    private void ensureActiveFlags() {
+        wakeExpiredSnoozes();
+        if (!isActiveFlagsStale) {
+            return;
+        }
+        boolean[] flags = new boolean[taskStorage.slotCount()];
+        for (int slot = 0; slot < flags.length; slot++) {
+            Task task = taskStorage.getSlot(slot);
+            flags[slot] = task != null && !wakeUpQueue.isSnoozed(task);
+        }
+        activeFlags.rebuild(flags);
+        isActiveFlagsStale = false;
+    }
+
+    /**
+     * Applies a change to the search indexes.
+     *
+     * @param change kind of mutation applied
+     * @param task affected task
+     */
+    private void updateSearchIndexes(ListChange change, Task task) {
+        if (change == ListChange.ADDED) {
+            trigramIndex.add(task);
+            fuzzyWordIndex.add(task);
+            dateIndex.add(task);
+            if (task instanceof Event) {
+                eventIntervals.add((Event) task);
+            }
+        } else if (change == ListChange.DELETED) {
+            trigramIndex.remove(task);
+            fuzzyWordIndex.remove(task);
+            dateIndex.remove(task);
+            if (task instanceof Event) {
+                eventIntervals.remove((Event) task);
+            }
+        } else {
+            // Descriptions and dates never change, so only the indexes over the displayed text need updating
+            trigramIndex.update(task);
+        }
+    }
+
+    /**
+     * Builds the search indexes on the first search, so loading a large list does not pay for
+     * indexing until it is needed. From then on they are maintained on every change.
+     */
+    private void ensureSearchIndexed() {
+        if (isSearchIndexed) {
+            return;
+        }
+        for (Task task : taskStorage) {
+            trigramIndex.add(task);
+            fuzzyWordIndex.add(task);
+            dateIndex.add(task);
+            if (task instanceof Event) {
+                eventIntervals.add((Event) task);
+            }
+        }
+        isSearchIndexed = true;
+    }
+
+    /**
+     * Returns tasks whose text contains the given string, in list order. Strings of three or more
+     * characters are looked up in the trigram index. Shorter strings are matched by scanning, as
+     * they occur in so many tasks that a scan costs little more than listing the matches.
      *
      * @param task Target task characters
      * @return ArrayList containing matched tasks
@@ -278,12 +644,19 @@ public class List {
         // Assert: Search parameter should not be null
         assert task != null : "Search string cannot be null";
 
+        ensureSearchIndexed();
         ArrayList<Task> output = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            // Assert: Loop index should be within bounds
-            assert i >= 0 && i < taskStorage.size() : "Loop index should be within storage bounds";
+        if (task.length() >= TrigramIndex.GRAM_LENGTH) {
+            for (Long id : trigramIndex.findCandidates(task)) {
+                Task candidate = taskById(id);
+                if (candidate.toString().contains(task)) {
+                    output.add(candidate);
+                }
+            }
+            return output;
+        }
 
-            Task targetTask = taskStorage.get(i);
+        for (Task targetTask : taskStorage) {
             if (targetTask.toString().contains(task)) {
                 output.add(targetTask);
             }
@@ -295,9 +668,123 @@ public class List {
         return output;
     }
 
+    /**
+     * Returns tasks whose descriptions contain, for every word of the keyword, a word within the
+     * given edit distance, ignoring case. Closer matches come first; ties keep list order.
+     *
+     * @param keyword one or more words to look for
+     * @param maxDistance largest edit distance accepted per word
+     * @return ArrayList containing matched tasks, best match first
+     */
+    public ArrayList<Task> findTasksFuzzy(String keyword, int maxDistance) {
+        assert keyword != null : "Search string cannot be null";
+        assert maxDistance >= 0 : "Edit distance cannot be negative";
+
+        ensureSearchIndexed();
+        HashMap<Long, Integer> scores = fuzzyWordIndex.search(keyword, maxDistance);
+        ArrayList<Long> ids = new ArrayList<>(scores.keySet());
+        ids.sort(Comparator.comparing((Long id) -> scores.get(id)).thenComparing(id -> id));
+
+        ArrayList<Task> output = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            output.add(taskById(id));
+        }
+        return output;
+    }
+
+    /**
+     * Returns deadlines due and events starting between two dates, ordered by date; tasks on the
+     * same date keep list order.
+     *
+     * @param from first date of the range
+     * @param to last date of the range, inclusive
+     * @return ArrayList containing the tasks in the range
+     */
+    public ArrayList<Task> findTasksBetween(LocalDate from, LocalDate to) {
+        assert from != null && to != null : "Date range cannot be null";
+
+        ArrayList<Task> output = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return output;
+        }
+
+        ensureSearchIndexed();
+        for (Long id : dateIndex.findBetween(from, to)) {
+            output.add(taskById(id));
+        }
+        return output;
+    }
+
+    /**
+     * Returns the events whose dates overlap the given range, ordered by start date; events
+     * starting on the same date keep list order. Ranges are inclusive, so events sharing a single
+     * day overlap.
+     *
+     * @param from first date of the range
+     * @param to last date of the range, inclusive
+     * @return ArrayList containing the overlapping events
+     */
+    public ArrayList<Event> findOverlappingEvents(LocalDate from, LocalDate to) {
+        assert from != null && to != null : "Date range cannot be null";
+
+        ArrayList<Event> output = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return output;
+        }
+        ensureSearchIndexed();
+        for (Long id : eventIntervals.findOverlapping(from, to)) {
+            output.add((Event) taskById(id));
+        }
+        return output;
+    }
+
+    /**
+     * Returns the other events in the list whose dates overlap those of the given event, ordered
+     * by start date; events starting on the same date keep list order.
+     *
+     * @param event event in the list to check
+     * @return ArrayList containing the clashing events
+     */
+    public ArrayList<Event> findClashingEvents(Event event) {
+        assert event != null : "Event cannot be null";
+
+        ensureSearchIndexed();
+        ArrayList<Event> output = new ArrayList<>();
+        for (Long id : eventIntervals.findOverlapping(event.getFrom(), event.getTo())) {
+            if (id != event.getId()) {
+                output.add((Event) taskById(id));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Returns every pair of events whose dates overlap. The first event of a pair is always listed
+     * before the second; pairs are ordered by the first event's position in the list and then by
+     * the second event's start date.
+     *
+     * @return ArrayList of two-element arrays holding the clashing events
+     */
+    public ArrayList<Event[]> findEventConflicts() {
+        ensureSearchIndexed();
+        ArrayList<Event[]> conflicts = new ArrayList<>();
+        for (Task task : taskStorage) {
+            if (!(task instanceof Event)) {
+                continue;
+            }
+            Event event = (Event) task;
+            for (Long id : eventIntervals.findOverlapping(event.getFrom(), event.getTo())) {
+                if (id > event.getId()) {
+                    conflicts.add(new Event[] {event, (Event) taskById(id)});
+                }
+            }
+        }
+        return conflicts;
+    }
+
     /**
      * Shows the list of tasks that can be snoozed (non-completed tasks). Uses the same numbering
-     * system as the regular task list.
+     * system as the regular task list. Whether a task is snoozed is read from the active flags.
      *
      * @return String containing the list of snoozable tasks
      */
@@ -305,12 +792,20 @@ public class List {
         StringBuilder output = new StringBuilder(SNOOZE_HEADER);
         boolean hasFoundAny = false;
 
-        for (int i = 0; i < count; i++) {
-            Task task = taskStorage.get(i);
+        ensureActiveFlags();
+        int taskIndex = 0;
+        int slotCount = taskStorage.slotCount();
+        for (int slot = 0; slot < slotCount; slot++) {
+            Task task = taskStorage.getSlot(slot);
+            if (task == null) {
+                continue;
+            }
+            taskIndex++;
             if (!task.isCompleted()) { // Only show non-completed tasks
                 hasFoundAny = true;
                 String snoozeStatus = "";
-                if (task.isSnoozed()) {
+                boolean isSnoozed = !activeFlags.get(slot + 1);
+                if (isSnoozed) {
                     if (task.isSnoozedForever()) {
                         snoozeStatus = " [SNOOZED FOREVER]";
                     } else {
@@ -319,11 +814,12 @@ public class List {
                 }
                 // Remove snooze info from task toString and add our own formatted version
                 String taskStr = task.toString();
-                if (task.isSnoozed()) {
+                if (isSnoozed) {
                     // Remove the snooze info that's already in the toString
                     taskStr = taskStr.replaceAll(" \\(snoozed.*?\\)", "");
                 }
-                output.append(String.format("%d.%s%s\n", i + 1, taskStr, snoozeStatus));
+                output.append(taskIndex).append('.').append(taskStr).append(snoozeStatus)
+                        .append('\n');
             }
         }
 
@@ -344,7 +840,7 @@ public class List {
      * @param taskIndex 1-based index of the task to snooze
      * @return Message indicating the result of the snooze operation
      */
-    public String snoozeTaskForever(int taskIndex) {
+    public synchronized String snoozeTaskForever(int taskIndex) {
         if (!isValidTaskIndex(taskIndex)) {
             return TASK_NOT_EXIST_MSG;
         }
@@ -362,12 +858,14 @@ public class List {
                 return "Task is already snoozed forever!";
             } else {
                 task.snoozeForever();
-                return String.format("Task snooze changed from date to forever:\n   %s", task);
+                notifyListeners(ListChange.SNOOZED, taskIndex, task);
+                return TASK_SNOOZE_CHANGED_TO_FOREVER_TEMPLATE.fill(task);
             }
         }
 
         task.snoozeForever();
-        return String.format(TASK_SNOOZED_FOREVER_FORMAT, task);
+        notifyListeners(ListChange.SNOOZED, taskIndex, task);
+        return TASK_SNOOZED_FOREVER_TEMPLATE.fill(task);
     }
 
     /**
@@ -377,7 +875,7 @@ public class List {
      * @param dateString Date string in YYYY-MM-DD format
      * @return Message indicating the result of the snooze operation
      */
-    public String snoozeTaskUntil(int taskIndex, String dateString) {
+    public synchronized String snoozeTaskUntil(int taskIndex, String dateString) {
         if (!isValidTaskIndex(taskIndex)) {
             return TASK_NOT_EXIST_MSG;
         }
@@ -396,18 +894,18 @@ public class List {
             if (task.isSnoozed()) {
                 if (task.isSnoozedForever()) {
                     task.snooze(snoozeDate);
-                    return String.format(
-                            "Task was snoozed forever, now changed to snooze until %s:\n   %s",
-                            snoozeDate, task);
+                    notifyListeners(ListChange.SNOOZED, taskIndex, task);
+                    return TASK_SNOOZE_CHANGED_TO_DATE_TEMPLATE.fill(snoozeDate, task);
                 } else {
                     task.snooze(snoozeDate);
-                    return String.format(
-                            "Task snooze date updated to %s:\n   %s", snoozeDate, task);
+                    notifyListeners(ListChange.SNOOZED, taskIndex, task);
+                    return TASK_SNOOZE_DATE_UPDATED_TEMPLATE.fill(snoozeDate, task);
                 }
             }
 
             task.snooze(snoozeDate);
-            return String.format(TASK_SNOOZED_UNTIL_FORMAT, snoozeDate, task);
+            notifyListeners(ListChange.SNOOZED, taskIndex, task);
+            return TASK_SNOOZED_UNTIL_TEMPLATE.fill(snoozeDate, task);
 
         } catch (DateTimeParseException e) {
             return INVALID_DATE_FORMAT_MSG;
@@ -420,7 +918,7 @@ public class List {
      * @param taskIndex 1-based index of the task to unsnooze
      * @return Message indicating the result of the unsnooze operation
      */
-    public String unsnoozeTask(int taskIndex) {
+    public synchronized String unsnoozeTask(int taskIndex) {
         if (!isValidTaskIndex(taskIndex)) {
             return TASK_NOT_EXIST_MSG;
         }
@@ -433,19 +931,23 @@ public class List {
         }
 
         task.unsnooze();
-        return String.format("Task unsnoozed:\n   %s", task);
+        notifyListeners(ListChange.UNSNOOZED, taskIndex, task);
+        return TASK_UNSNOOZED_TEMPLATE.fill(task);
     }
 
     /**
-     * Gets the active (non-snoozed or expired snooze) tasks for display.
+     * Gets the active (non-snoozed or expired snooze) tasks for display. The tasks are collected
+     * from the active flags, so the result is sized up front and no task is looked up by id.
      *
      * @return ArrayList of active tasks
      */
     public ArrayList<Task> getActiveTasks() {
-        ArrayList<Task> activeTasks = new ArrayList<>();
-        for (Task task : taskStorage) {
-            if (!task.isSnoozed()) {
-                activeTasks.add(task);
+        ensureActiveFlags();
+        ArrayList<Task> activeTasks = new ArrayList<>(activeFlags.prefixSum(activeFlags.size()));
+        int slotCount = taskStorage.slotCount();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (activeFlags.get(slot + 1)) {
+                activeTasks.add(taskStorage.getSlot(slot));
             }
         }
         return activeTasks;
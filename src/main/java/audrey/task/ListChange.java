@@ -0,0 +1,11 @@
+package audrey.task;
+
+/** Kinds of mutation a {@link List} reports to its {@link TaskListListener}s. */
+public enum ListChange {
+    ADDED,
+    MARKED,
+    UNMARKED,
+    DELETED,
+    SNOOZED,
+    UNSNOOZED
+}
@@ -0,0 +1,135 @@
+package audrey.task;
+
+import java.util.ArrayList;
+
+/**
+ * Response template compiled once from a {@code String.format}-style pattern. The pattern is split
+ * into its literal parts when the template is built, so filling it in only appends those parts
+ * and the arguments to a per-thread {@link StringBuilder} that is reused between calls, instead of
+ * parsing the pattern and allocating a formatter every time.
+ *
+ * <p>Only {@code %s} and {@code %d} placeholders, filled with {@link String#valueOf(Object)}, and
+ * the {@code %%} escape are supported; those are the only ones the response messages use.
+ */
+public final class MessageTemplate {
+    private static final int INITIAL_BUFFER_CAPACITY = 256;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final String[] literals;
+
+    /**
+     * Builds a template from the literal parts around its placeholders.
+     *
+     * @param literals literal parts, one more than the number of placeholders
+     */
+    private MessageTemplate(String[] literals) {
+        this.literals = literals;
+    }
+
+    /**
+     * Compiles a pattern into a template.
+     *
+     * @param pattern pattern using {@code %s}, {@code %d} and {@code %%}
+     * @return compiled template
+     * @throws IllegalArgumentException if the pattern uses any other conversion
+     */
+    public static MessageTemplate compile(String pattern) {
+        assert pattern != null : "Template pattern cannot be null";
+
+        ArrayList<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            char conversion = i + 1 < pattern.length() ? pattern.charAt(++i) : '\0';
+            if (conversion == '%') {
+                literal.append('%');
+            } else if (conversion == 's' || conversion == 'd') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported conversion in template: " + pattern);
+            }
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(literals.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the number of placeholders in the template.
+     *
+     * @return number of arguments {@link #fill} expects
+     */
+    public int argumentCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * Fills a template with one placeholder.
+     *
+     * @param first value of the placeholder
+     * @return filled message
+     */
+    public String fill(Object first) {
+        assert argumentCount() == 1 : "Template expects " + argumentCount() + " arguments";
+
+        return build(String.valueOf(first), null, null);
+    }
+
+    /**
+     * Fills a template with two placeholders.
+     *
+     * @param first value of the first placeholder
+     * @param second value of the second placeholder
+     * @return filled message
+     */
+    public String fill(Object first, Object second) {
+        assert argumentCount() == 2 : "Template expects " + argumentCount() + " arguments";
+
+        return build(String.valueOf(first), String.valueOf(second), null);
+    }
+
+    /**
+     * Fills a template with three placeholders.
+     *
+     * @param first value of the first placeholder
+     * @param second value of the second placeholder
+     * @param third value of the third placeholder
+     * @return filled message
+     */
+    public String fill(Object first, Object second, Object third) {
+        assert argumentCount() == 3 : "Template expects " + argumentCount() + " arguments";
+
+        return build(String.valueOf(first), String.valueOf(second), String.valueOf(third));
+    }
+
+    /**
+     * Joins the literal parts and the already converted arguments. Arguments are converted before
+     * the shared buffer is touched, since converting a task may fill another template.
+     *
+     * @param first first argument, or null if the template has none
+     * @param second second argument, or null if the template has fewer than two
+     * @param third third argument, or null if the template has fewer than three
+     * @return filled message
+     */
+    private String build(String first, String second, String third) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.append(literals[0]);
+        if (first != null) {
+            buffer.append(first).append(literals[1]);
+        }
+        if (second != null) {
+            buffer.append(second).append(literals[2]);
+        }
+        if (third != null) {
+            buffer.append(third).append(literals[3]);
+        }
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package audrey.task;
+
+import java.util.Arrays;
+
+/** Task storage that keeps every task as an object in a slot array. */
+class ObjectTaskStore extends TaskStore {
+    private Task[] slots;
+
+    /** Builds empty storage. */
+    ObjectTaskStore() {
+        slots = new Task[INITIAL_CAPACITY];
+    }
+
+    @Override
+    protected Task readSlot(int slot) {
+        return slots[slot];
+    }
+
+    @Override
+    protected void writeSlot(int slot, Task task) {
+        if (slot == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        slots[slot] = task;
+    }
+
+    @Override
+    protected void clearSlot(int slot) {
+        slots[slot] = null;
+    }
+
+    @Override
+    protected void moveSlot(int from, int to) {
+        slots[to] = slots[from];
+    }
+
+    @Override
+    void update(int slot, Task task) {
+        // The slot holds the changed task itself
+        assert slots[slot] == task : "Task should be the one stored in the slot";
+    }
+}
@@ -0,0 +1,90 @@
+package audrey.task;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+
+/**
+ * Tracks which tasks are snoozed without reading the clock for every task. The snooze dates of
+ * snoozed tasks are kept by id, and tasks snoozed until a date are also queued by that date.
+ * Bringing the map up to date only polls the queue while its earliest date has passed, so a
+ * listing costs one clock read and a peek rather than a clock read per task.
+ *
+ * <p>Queue entries are not removed when a task is unsnoozed, re-snoozed or deleted; an entry
+ * whose date no longer matches its task is skipped when it comes up.
+ */
+class SnoozeWakeUpQueue {
+    private final HashMap<Long, LocalDate> snoozedUntilById;
+    private final PriorityQueue<WakeUp> wakeUps;
+
+    /** Builds an empty queue. */
+    SnoozeWakeUpQueue() {
+        snoozedUntilById = new HashMap<>();
+        wakeUps = new PriorityQueue<>((first, second) -> first.until.compareTo(second.until));
+    }
+
+    /**
+     * Records the current snooze state of a task after it was added, snoozed or unsnoozed.
+     *
+     * @param task task whose snooze state may have changed
+     */
+    void update(Task task) {
+        LocalDate until = task.getSnoozeUntil();
+        if (until == null) {
+            snoozedUntilById.remove(task.getId());
+            return;
+        }
+        snoozedUntilById.put(task.getId(), until);
+        if (!task.isSnoozedForever()) {
+            wakeUps.add(new WakeUp(until, task.getId()));
+        }
+    }
+
+    /**
+     * Forgets a task that was deleted.
+     *
+     * @param task deleted task
+     */
+    void remove(Task task) {
+        snoozedUntilById.remove(task.getId());
+    }
+
+    /**
+     * Wakes every task whose snooze date is before the given day.
+     *
+     * @param today current date
+     * @return true if any task woke up
+     */
+    boolean wakeExpired(LocalDate today) {
+        boolean hasWoken = false;
+        while (!wakeUps.isEmpty() && wakeUps.peek().until.isBefore(today)) {
+            WakeUp wakeUp = wakeUps.poll();
+            if (wakeUp.until.equals(snoozedUntilById.get(wakeUp.id))) {
+                snoozedUntilById.remove(wakeUp.id);
+                hasWoken = true;
+            }
+        }
+        return hasWoken;
+    }
+
+    /**
+     * Checks whether a task is snoozed as of the last call to {@link #wakeExpired(LocalDate)}.
+     *
+     * @param task task to check
+     * @return true if the task is snoozed
+     */
+    boolean isSnoozed(Task task) {
+        return snoozedUntilById.containsKey(task.getId());
+    }
+
+    /** Queued wake-up of a task snoozed until a date. */
+    private static class WakeUp {
+        private final LocalDate until;
+        private final long id;
+
+        private WakeUp(LocalDate until, long id) {
+            this.until = until;
+            this.id = id;
+        }
+    }
+}
@@ -4,9 +4,16 @@ import java.time.LocalDate;
 
 /** Task class for Todo, Deadline and Event to inherit from. */
 public abstract class Task {
+    private static final MessageTemplate RENDER_TEMPLATE = MessageTemplate.compile("[%s] %s%s");
+
     private final String description;
     private boolean completed;
     private LocalDate snoozeUntil; // null means not snoozed, LocalDate.MAX means snoozed forever
+    private long id; // assigned by List when the task is added, increasing in list order
+    // Bumped after every change to the line; only the command thread changes tasks, but the
+    // write-behind and compaction threads render them, so this also publishes the changed fields
+    private volatile int version;
+    private volatile RenderedLine renderedLine; // null until first rendered
 
     /**
      * Constructor for Task.
@@ -23,12 +30,54 @@ public abstract class Task {
         snoozeUntil = null; // Not snoozed by default
     }
 
+    /**
+     * Constructor for Task from already parsed fields.
+     *
+     * @param description Description of the task
+     * @param completed Whether the task is completed
+     * @param snoozeUntil Snooze date, LocalDate.MAX for forever, or null if not snoozed
+     */
+    protected Task(String description, boolean completed, LocalDate snoozeUntil) {
+        this(description);
+        this.completed = completed;
+        this.snoozeUntil = snoozeUntil;
+    }
+
+    /**
+     * Returns the description of this task.
+     *
+     * @return task description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the id the owning list assigned to this task.
+     *
+     * @return task id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of this task. Called by List when the task is added.
+     *
+     * @param id task id
+     */
+    void setId(long id) {
+        this.id = id;
+    }
+
     public void markTask() {
         completed = true;
+        version++;
     }
 
     public void unmarkTask() {
         completed = false;
+        version++;
     }
 
     /**
@@ -50,16 +99,19 @@ public abstract class Task {
         assert until != null : "Snooze date cannot be null";
 
         this.snoozeUntil = until;
+        version++;
     }
 
     /** Snooze this task forever. */
     public void snoozeForever() {
         this.snoozeUntil = LocalDate.MAX;
+        version++;
     }
 
     /** Unsnooze this task (remove snooze). */
     public void unsnooze() {
         this.snoozeUntil = null;
+        version++;
     }
 
     /**
@@ -74,7 +126,7 @@ public abstract class Task {
         if (snoozeUntil.equals(LocalDate.MAX)) {
             return true; // Snoozed forever
         }
-        return !snoozeUntil.isBefore(LocalDate.now());
+        return !snoozeUntil.isBefore(TaskClock.today());
     }
 
     /**
@@ -95,8 +147,40 @@ public abstract class Task {
         return snoozeUntil;
     }
 
+    /**
+     * Returns the line this task is listed, searched and saved as. The line is rendered once and
+     * reused until the task is marked, unmarked, snoozed or unsnoozed, or until its snooze expires,
+     * which is noticed by comparing the current snooze state with the one it was rendered for.
+     *
+     * <p>Background threads render tasks too, so the cached line is kept together with the version
+     * it was rendered at, and a line is only cached if no change happened while it was rendered.
+     * A line rendered from an old state is therefore never reused after the change.
+     *
+     * @return rendered task line
+     */
     @Override
-    public String toString() {
+    public final String toString() {
+        int currentVersion = version;
+        boolean isSnoozedNow = isSnoozed();
+        RenderedLine cached = renderedLine;
+        if (cached != null && cached.version == currentVersion
+                && cached.isSnoozed == isSnoozedNow) {
+            return cached.line;
+        }
+        String line = render();
+        if (version == currentVersion) {
+            renderedLine = new RenderedLine(currentVersion, isSnoozedNow, line);
+        }
+        return line;
+    }
+
+    /**
+     * Renders the status, description and snooze parts of the task line. Subclasses add their
+     * type and dates around it.
+     *
+     * @return freshly rendered task line
+     */
+    protected String render() {
         String statusIcon = completed ? "X" : " ";
         String snoozeInfo = "";
 
@@ -108,6 +192,19 @@ public abstract class Task {
             }
         }
 
-        return String.format("[%s] %s%s", statusIcon, description, snoozeInfo);
+        return RENDER_TEMPLATE.fill(statusIcon, description, snoozeInfo);
+    }
+
+    /** Rendered line together with the task state it was rendered for. */
+    private static final class RenderedLine {
+        private final int version;
+        private final boolean isSnoozed;
+        private final String line;
+
+        private RenderedLine(int version, boolean isSnoozed, String line) {
+            this.version = version;
+            this.isSnoozed = isSnoozed;
+            this.line = line;
+        }
     }
 }
@@ -0,0 +1,106 @@
+package audrey.task;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Source of the current date for all date-sensitive task logic. The date is read from a
+ * {@link Clock} once per command by {@link #refresh()} and served from a field in between, so
+ * loops over many tasks never query the system clock and every check within one command sees the
+ * same date.
+ *
+ * <p>Setting the system property {@code audrey.fixedDate} to a {@code yyyy-MM-dd} date starts the
+ * application on a fixed clock, which makes snoozes and date validation reproducible for
+ * benchmarks and replay.
+ */
+public final class TaskClock {
+    public static final String FIXED_DATE_PROPERTY = "audrey.fixedDate";
+
+    private static volatile Clock clock = initialClock();
+    private static volatile LocalDate today = LocalDate.now(clock);
+
+    private TaskClock() {
+        // Utility class, not meant to be instantiated
+    }
+
+    /**
+     * Returns the date as of the last refresh.
+     *
+     * @return current date
+     */
+    public static LocalDate today() {
+        return today;
+    }
+
+    /** Reads the clock again. Called at the start of every command. */
+    public static void refresh() {
+        today = LocalDate.now(clock);
+    }
+
+    /**
+     * Returns the clock dates are read from.
+     *
+     * @return current clock
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock dates are read from and refreshes the current date.
+     *
+     * @param newClock clock to use
+     */
+    public static void setClock(Clock newClock) {
+        assert newClock != null : "Clock cannot be null";
+
+        clock = newClock;
+        refresh();
+    }
+
+    /**
+     * Fixes the current date, for benchmarks, replay and tests.
+     *
+     * @param date date every command should see
+     */
+    public static void useFixedDate(LocalDate date) {
+        assert date != null : "Fixed date cannot be null";
+
+        setClock(fixedClock(date));
+    }
+
+    /** Goes back to reading the system clock in the default time zone. */
+    public static void useSystemClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Picks the clock to start with, honouring {@link #FIXED_DATE_PROPERTY}.
+     *
+     * @return fixed clock if the property holds a valid date, the system clock otherwise
+     */
+    private static Clock initialClock() {
+        String fixedDate = System.getProperty(FIXED_DATE_PROPERTY);
+        if (fixedDate != null) {
+            try {
+                return fixedClock(LocalDate.parse(fixedDate.trim()));
+            } catch (DateTimeParseException e) {
+                System.err.println("Warning: Ignoring invalid " + FIXED_DATE_PROPERTY + ": "
+                        + fixedDate);
+            }
+        }
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * Builds a clock stopped at the start of a date.
+     *
+     * @param date date the clock shows
+     * @return fixed clock
+     */
+    private static Clock fixedClock(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
+}
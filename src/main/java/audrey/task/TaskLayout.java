@@ -0,0 +1,12 @@
+package audrey.task;
+
+/** In-memory layouts a {@link List} can keep its tasks in. */
+public enum TaskLayout {
+    /** One object per task, handed out as is. */
+    OBJECTS,
+    /**
+     * Primitive columns with descriptions in a shared arena. Uses far less memory for large
+     * lists, but tasks are rebuilt on every read, so changes must go through {@link List}.
+     */
+    COLUMNS
+}
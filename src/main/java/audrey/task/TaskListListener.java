@@ -0,0 +1,13 @@
+package audrey.task;
+
+/** Observer that is notified after every successful mutation of a {@link List}. */
+public interface TaskListListener {
+    /**
+     * Called after a change has been applied to the list.
+     *
+     * @param change kind of mutation that was applied
+     * @param taskIndex 1-based index of the affected task (its index before removal for deletes)
+     * @param task the affected task
+     */
+    void onTaskListChanged(ListChange change, int taskIndex, Task task);
+}
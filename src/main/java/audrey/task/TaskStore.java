@@ -0,0 +1,278 @@
+package audrey.task;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Ordered task storage with cheap removal. Tasks live in append-only slots in list order; removing
+ * a task leaves a tombstone in its slot instead of shifting every later task. A
+ * {@link FenwickTree} over the live slots maps list positions to slots and back in O(log n), and
+ * once tombstones outnumber live tasks the slots are compacted in one O(n) pass, so a run of
+ * removals costs O(log n) amortized per task rather than O(n).
+ *
+ * <p>Freed slots are not reused: a new task always goes after the last slot, which keeps slot
+ * order equal to list order, and since task ids increase in list order a task's slot can be found
+ * from its id by binary search. Subclasses decide how the task in each slot is represented.
+ */
+abstract class TaskStore implements Iterable<Task> {
+    protected static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    private final FenwickTree liveFlags;
+    private long[] ids;
+    private int slotCount;
+    private int size;
+
+    /** Builds empty storage. */
+    TaskStore() {
+        liveFlags = new FenwickTree();
+        ids = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the task in a live slot.
+     *
+     * @param slot 0-based slot holding a task
+     * @return the task
+     */
+    protected abstract Task readSlot(int slot);
+
+    /**
+     * Stores a task in a new slot after the last one.
+     *
+     * @param slot 0-based slot, equal to the current slot count
+     * @param task task to store
+     */
+    protected abstract void writeSlot(int slot, Task task);
+
+    /**
+     * Releases whatever a removed or moved-out slot holds.
+     *
+     * @param slot 0-based slot
+     */
+    protected abstract void clearSlot(int slot);
+
+    /**
+     * Moves the task in one slot to an earlier slot during compaction. Slots are moved in
+     * ascending order, and every slot before {@code to} already holds its final task.
+     *
+     * @param from 0-based slot holding a task
+     * @param to 0-based slot to move it to, not after {@code from}
+     */
+    protected abstract void moveSlot(int from, int to);
+
+    /**
+     * Writes the mutable state of a task (completion and snooze) back to its slot after it
+     * changed.
+     *
+     * @param slot 0-based slot holding the task
+     * @param task task as changed by the caller
+     */
+    abstract void update(int slot, Task task);
+
+    /**
+     * Returns the number of tasks stored.
+     *
+     * @return number of live tasks
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots in use, live or tombstoned.
+     *
+     * @return number of slots
+     */
+    int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns the id of the task in a slot.
+     *
+     * @param slot 0-based slot
+     * @return task id
+     */
+    protected long getId(int slot) {
+        return ids[slot];
+    }
+
+    /**
+     * Returns the task in a slot.
+     *
+     * @param slot 0-based slot
+     * @return task in the slot, or null for a tombstone
+     */
+    Task getSlot(int slot) {
+        return liveFlags.get(slot + 1) ? readSlot(slot) : null;
+    }
+
+    /**
+     * Appends a task after the last one. The task must already have an id larger than every id
+     * stored so far.
+     *
+     * @param task task to append
+     */
+    void add(Task task) {
+        assert slotCount == 0 || task.getId() > ids[slotCount - 1] : "Ids must increase";
+
+        if (slotCount == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[slotCount] = task.getId();
+        writeSlot(slotCount, task);
+        slotCount++;
+        liveFlags.append(true);
+        size++;
+    }
+
+    /**
+     * Returns the task at a list position.
+     *
+     * @param index 0-based list position
+     * @return task at that position
+     */
+    Task get(int index) {
+        return readSlot(slotOf(index));
+    }
+
+    /**
+     * Removes the task at a list position, leaving a tombstone in its slot.
+     *
+     * @param index 0-based list position
+     * @return removed task
+     */
+    Task remove(int index) {
+        int slot = slotOf(index);
+        Task task = readSlot(slot);
+        clearSlot(slot);
+        liveFlags.set(slot + 1, false);
+        size--;
+        return task;
+    }
+
+    /**
+     * Returns the slot holding the task at a list position.
+     *
+     * @param index 0-based list position
+     * @return 0-based slot
+     */
+    int slotOf(int index) {
+        assert index >= 0 && index < size : "Index out of range: " + index;
+
+        if (size == slotCount) {
+            return index;
+        }
+        return liveFlags.findByRank(index + 1) - 1;
+    }
+
+    /**
+     * Returns the list position of the task in a live slot.
+     *
+     * @param slot 0-based slot holding a task
+     * @return 0-based list position
+     */
+    int positionOf(int slot) {
+        assert liveFlags.get(slot + 1) : "Slot holds no task: " + slot;
+
+        if (size == slotCount) {
+            return slot;
+        }
+        return liveFlags.prefixSum(slot + 1) - 1;
+    }
+
+    /**
+     * Returns the slot holding the task with the given id.
+     *
+     * @param id task id
+     * @return 0-based slot, or -1 if no stored task has that id
+     */
+    int slotOfId(long id) {
+        int slot = Arrays.binarySearch(ids, 0, slotCount, id);
+        return slot >= 0 && liveFlags.get(slot + 1) ? slot : -1;
+    }
+
+    /**
+     * Compacts the slots if tombstones outnumber live tasks. Slots change when this happens.
+     *
+     * @return true if the storage was compacted
+     */
+    boolean compactIfSparse() {
+        int tombstones = slotCount - size;
+        if (tombstones < MIN_TOMBSTONES_TO_COMPACT || tombstones <= size) {
+            return false;
+        }
+
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!liveFlags.get(slot + 1)) {
+                continue;
+            }
+            if (slot != next) {
+                moveSlot(slot, next);
+                ids[next] = ids[slot];
+            }
+            next++;
+        }
+        for (int slot = next; slot < slotCount; slot++) {
+            clearSlot(slot);
+        }
+        slotCount = size;
+
+        boolean[] flags = new boolean[size];
+        Arrays.fill(flags, true);
+        liveFlags.rebuild(flags);
+        return true;
+    }
+
+    /**
+     * Copies the tasks into an array in list order.
+     *
+     * @return array of the live tasks
+     */
+    Task[] toArray() {
+        Task[] tasks = new Task[size];
+        int next = 0;
+        for (Task task : this) {
+            tasks[next++] = task;
+        }
+        return tasks;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<Task>() {
+            private int slot = nextLiveSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < slotCount;
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Task task = readSlot(slot);
+                slot = nextLiveSlot(slot + 1);
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Returns the first live slot at or after the given one.
+     *
+     * @param slot slot to start from
+     * @return first live slot, or {@code slotCount} if there is none
+     */
+    private int nextLiveSlot(int slot) {
+        while (slot < slotCount && !liveFlags.get(slot + 1)) {
+            slot++;
+        }
+        return slot;
+    }
+}
@@ -1,13 +1,31 @@
 package audrey.task;
 
+import java.time.LocalDate;
+
 /** Todo task. */
 public class Todo extends Task {
     public Todo(String task) {
         super(task);
     }
 
+    private Todo(String description, boolean completed, LocalDate snoozeUntil) {
+        super(description, completed, snoozeUntil);
+    }
+
+    /**
+     * Creates a todo from already parsed fields without re-parsing a command string.
+     *
+     * @param description Description of the task
+     * @param completed Whether the task is completed
+     * @param snoozeUntil Snooze date, LocalDate.MAX for forever, or null if not snoozed
+     * @return the todo task
+     */
+    public static Todo of(String description, boolean completed, LocalDate snoozeUntil) {
+        return new Todo(description, completed, snoozeUntil);
+    }
+
     @Override
-    public String toString() {
-        return String.format("[T]%s", super.toString());
+    protected String render() {
+        return "[T]" + super.render();
     }
 }
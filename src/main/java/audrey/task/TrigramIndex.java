@@ -0,0 +1,118 @@
+package audrey.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.TreeSet;
+
+/**
+ * Index from every three-character sequence of each task's displayed text to the ids of the tasks
+ * containing it. Any text containing a search string of three or more characters also contains
+ * all of its trigrams, so intersecting their posting lists yields every matching task; the few
+ * tasks that contain the trigrams in a different arrangement are removed by verification.
+ */
+class TrigramIndex {
+    static final int GRAM_LENGTH = 3;
+
+    private final HashMap<Long, HashSet<Long>> postings;
+    private final HashMap<Long, long[]> trigramsById;
+
+    /** Builds an empty index. */
+    TrigramIndex() {
+        postings = new HashMap<>();
+        trigramsById = new HashMap<>();
+    }
+
+    /**
+     * Adds a task under the trigrams of its current text.
+     *
+     * @param task task to index
+     */
+    void add(Task task) {
+        long[] trigrams = trigramsOf(task.toString());
+        trigramsById.put(task.getId(), trigrams);
+        for (long trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task task to remove
+     */
+    void remove(Task task) {
+        long[] trigrams = trigramsById.remove(task.getId());
+        if (trigrams == null) {
+            return;
+        }
+        for (long trigram : trigrams) {
+            HashSet<Long> ids = postings.get(trigram);
+            ids.remove(task.getId());
+            if (ids.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Re-indexes a task after its text changed.
+     *
+     * @param task task to re-index
+     */
+    void update(Task task) {
+        remove(task);
+        add(task);
+    }
+
+    /**
+     * Returns the ids of tasks containing every trigram of the search string, in ascending order.
+     * Callers verify each candidate with {@code contains} against the task's current text.
+     *
+     * @param query search string of at least {@code GRAM_LENGTH} characters
+     * @return candidate task ids in ascending order
+     */
+    TreeSet<Long> findCandidates(String query) {
+        assert query.length() >= GRAM_LENGTH : "Query should be at least one trigram long";
+
+        ArrayList<HashSet<Long>> lists = new ArrayList<>();
+        for (long trigram : trigramsOf(query)) {
+            HashSet<Long> ids = postings.get(trigram);
+            if (ids == null) {
+                return new TreeSet<>();
+            }
+            lists.add(ids);
+        }
+
+        // Intersect starting from the shortest posting list
+        lists.sort(Comparator.comparingInt(HashSet::size));
+        HashSet<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return new TreeSet<>(candidates);
+    }
+
+    /**
+     * Returns the distinct trigrams of a text, each packed into a long.
+     *
+     * @param text text to split
+     * @return distinct packed trigrams
+     */
+    private static long[] trigramsOf(String text) {
+        HashSet<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32)
+                    | ((long) text.charAt(i + 1) << 16)
+                    | text.charAt(i + 2));
+        }
+
+        long[] packed = new long[trigrams.size()];
+        int i = 0;
+        for (long trigram : trigrams) {
+            packed[i++] = trigram;
+        }
+        return packed;
+    }
+}
@@ -2,6 +2,7 @@ package audrey.ui;
 
 import audrey.parser.Parser;
 import audrey.storage.Storage;
+import audrey.storage.WriteBehindFlusher;
 import audrey.task.List;
 
 /** Contains logic for bot workflow. */
@@ -29,6 +30,7 @@ public class Audrey {
                 : "Database filename should be valid";
 
         this.instanceStorage = new Storage(AUDREY_DB);
+        instanceStorage.startWriteBehind(WriteBehindFlusher.DEFAULT_FLUSH_INTERVAL_MILLIS);
         this.instanceToDoList = instanceStorage.getToDoList();
         this.instanceCommand = new Parser(instanceToDoList);
 
@@ -56,6 +58,8 @@ public class Audrey {
                  ##   ## ##   ## ##  ## ##  ## ##          ##
                  ##   ##  #####  #####  ##  ## #######     ##
                 """;
+        // Only the CLI uses the static storage; GUI mode starts write-behind on its own instance
+        audreyStorage.startWriteBehind(WriteBehindFlusher.DEFAULT_FLUSH_INTERVAL_MILLIS);
         print("Hello! I'm Audrey\nWhat can I do for you!\n" + logo);
         print("Task that you have pending:\n" + toDoList.toString());
         print("\n" + getHelpMessage());
@@ -71,6 +75,7 @@ public class Audrey {
                 Available Commands:
                 ==================
                 • list - Show all tasks
+                • list page <number> - Show one page of tasks (add --limit <n> for page size)
                 • todo <description> - Add a todo task
                 • deadline <description> /by <date> - Add a deadline task (date: YYYY-MM-DD)
                 • event <description> /from <date> /to <date> - Add an event task
@@ -78,6 +83,10 @@ public class Audrey {
                 • unmark <number> - Mark task as not done
                 • delete <number> - Delete a task
                 • find <keyword> - Find tasks containing keyword
+                • find~ <keyword> - Find tasks allowing typos in keyword
+                • due <from> <to> - Show deadlines and events between dates
+                • agenda <days> - Show deadlines and events of the coming days
+                • conflicts [number] - Show clashing events
                 • snooze <number> - Snooze task forever
                 • snooze <number> <date> - Snooze task until date (YYYY-MM-DD)
                 • unsnooze <number> - Remove snooze status from task
@@ -97,14 +106,21 @@ public class Audrey {
      * @param string Text to print
      */
     private static void print(String string) {
-        String[] splitString = string.split("\n");
-        StringBuilder formattedString = new StringBuilder();
-        for (int i = 0; i < splitString.length; i++) {
-            if (i + 1 == splitString.length) {
-                formattedString.append(INDENT).append(splitString[i]);
-            } else {
-                formattedString.append(INDENT).append(splitString[i]).append('\n');
+        // Indent every line in one pass; trailing line breaks are dropped
+        int end = string.length();
+        while (end > 0 && string.charAt(end - 1) == '\n') {
+            end--;
+        }
+        StringBuilder formattedString = new StringBuilder(end + INDENT.length() * 8);
+        int lineStart = 0;
+        while (true) {
+            int lineEnd = string.indexOf('\n', lineStart);
+            if (lineEnd < 0 || lineEnd >= end) {
+                formattedString.append(INDENT).append(string, lineStart, end);
+                break;
             }
+            formattedString.append(INDENT).append(string, lineStart, lineEnd + 1);
+            lineStart = lineEnd + 1;
         }
         System.out.println(SEPARATOR_LINE);
         System.out.println(formattedString.toString());
@@ -154,12 +170,15 @@ public class Audrey {
         }
     }
 
+    /** Saves the tasks on the calling thread and stops background persistence. */
     public static void shutdown() {
         audreyStorage.saveToFile();
+        audreyStorage.close();
     }
 
     /** Instance method for GUI to shutdown. */
     public void instanceShutdown() {
         instanceStorage.saveToFile();
+        instanceStorage.close();
     }
 }
@@ -1,13 +1,18 @@
 package audrey.command;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import audrey.parser.Parser;
 import audrey.task.List;
+import audrey.task.TaskClock;
 
 /**
  * Exercises the {@link Parser} to verify its command routing, validation, and
@@ -250,4 +255,162 @@ public class ParserTest {
                         || result2.contains("To Do List Activated!")
                         || result3.contains("To Do List Activated!"));
     }
+
+    @Test
+    @DisplayName("Parser should find tasks despite typos with find~")
+    public void parser_fuzzyFind_toleratesTypos() {
+        parser.runInput("list");
+        parser.runInput("todo read book");
+        parser.runInput("todo return books");
+
+        String result = parser.runInput("find~ reed");
+        assertTrue(result.contains("Here are the closest matching tasks in your list:"));
+        assertTrue(result.contains("1. [T][ ] read book"));
+
+        assertTrue(parser.runInput("find~0 reed").contains("No tasks found matching: reed"));
+        assertTrue(parser.runInput("todo~ milk").contains("Invalid"));
+    }
+
+    @Test
+    @DisplayName("Parser should list dated tasks with due and agenda")
+    public void parser_dueAndAgenda_listDatedTasks() {
+        String today = LocalDate.now().toString();
+        parser.runInput("list");
+        parser.runInput("deadline submit report /by 2025-10-15");
+        parser.runInput("event conference /from 2025-10-20 /to 2025-10-22");
+        parser.runInput("deadline call mum /by " + today);
+
+        String result = parser.runInput("due 2025-10-01 2025-10-31");
+        assertTrue(result.contains("Here are the tasks between 2025-10-01 and 2025-10-31:"));
+        assertTrue(result.contains("1. [D][ ] submit report"));
+        assertTrue(result.contains("2. [E][ ] conference"));
+
+        assertTrue(parser.runInput("due 2025-10-31 2025-10-01").contains("cannot be after"));
+        assertTrue(parser.runInput("due 2025-10-01").contains("Usage"));
+        assertTrue(parser.runInput("agenda 1").contains("1. [D][ ] call mum"));
+        assertTrue(parser.runInput("agenda 0").contains("Invalid number of days"));
+    }
+
+    @Test
+    @DisplayName("Parser should warn about and list clashing events")
+    public void parser_conflicts_reportsClashingEvents() {
+        parser.runInput("list");
+        parser.runInput("event camp /from 2025-10-10 /to 2025-10-12");
+        String result = parser.runInput("event exam /from 2025-10-12 /to 2025-10-12");
+        assertTrue(result.contains("Got it. I've added this task:"));
+        assertTrue(result.contains("Warning: this event clashes with:\n   [E][ ] camp"));
+        assertTrue(!parser.runInput("event trip /from 2025-10-13 /to 2025-10-14")
+                .contains("Warning"));
+
+        assertTrue(parser.runInput("conflicts").contains("1. [E][ ] camp"));
+        assertTrue(parser.runInput("conflicts 3").contains("No events clash with"));
+        assertTrue(parser.runInput("conflicts 2025-10-12 2025-10-13").contains("3. [E][ ] trip"));
+    }
+
+    @Test
+    @DisplayName("Parser should read the date once per command from the task clock")
+    public void parser_fixedClock_drivesAgenda() {
+        try {
+            TaskClock.useFixedDate(LocalDate.parse("2025-10-14"));
+            parser.runInput("list");
+            parser.runInput("deadline submit report /by 2025-10-15");
+            parser.runInput("todo read book");
+            parser.runInput("snooze 2 2025-10-14");
+
+            assertTrue(parser.runInput("agenda 2").contains("1. [D][ ] submit report"));
+            assertTrue(!parser.runInput("list").contains("read book"));
+
+            TaskClock.useFixedDate(LocalDate.parse("2025-10-16"));
+            assertTrue(parser.runInput("agenda 2").contains("No deadlines or events"));
+            assertTrue(parser.runInput("list").contains("2.[T][ ] read book"));
+        } finally {
+            TaskClock.useSystemClock();
+        }
+    }
+
+    @Test
+    @DisplayName("Parser should mark and delete tasks by the number shown in the list")
+    public void parser_markAndDelete_useListedNumbers() {
+        parser.runInput("list");
+        parser.runInput("todo first");
+        parser.runInput("todo second");
+        parser.runInput("todo third");
+        parser.runInput("snooze 1");
+        assertTrue(parser.runInput("list").contains("1.[T][ ] second\n2.[T][ ] third"));
+
+        assertTrue(parser.runInput("mark 2").contains("[T][X] third"));
+        assertTrue(parser.runInput("delete 1").contains("second"));
+        assertTrue(parser.runInput("mark 2").contains("does not exist. You have 1 active tasks."));
+    }
+
+    @Test
+    @DisplayName("Parser should show one page of the list with page and limit options")
+    public void parser_listPage_showsOnePage() {
+        parser.runInput("list");
+        for (int i = 1; i <= 7; i++) {
+            parser.runInput("todo task" + i);
+        }
+        parser.runInput("snooze 2");
+
+        String result = parser.runInput("list page 2 --limit 3");
+        assertTrue(result.contains("4.[T][ ] task5\n5.[T][ ] task6\n6.[T][ ] task7\n"));
+        assertTrue(result.contains("Page 2 of 2 (6 active tasks)"));
+        assertTrue(!result.contains("task4"));
+
+        assertTrue(parser.runInput("list --limit 2").contains("1.[T][ ] task1\n2.[T][ ] task3\n"));
+        assertTrue(parser.runInput("list page 3 --limit 3").contains("There are 2 pages."));
+        assertTrue(parser.runInput("list page 0").contains("not a positive number"));
+        assertTrue(parser.runInput("list page 1 page 2").contains("Usage: list"));
+    }
+
+    @Test
+    @DisplayName("Commands should resolve regardless of case and reuse their parsers")
+    public void parser_commandLookup_ignoresCase() {
+        for (Command command : Command.values()) {
+            assertEquals(command, Command.fromString(command.getCommandString()));
+            assertEquals(command, Command.fromString(command.getCommandString().toUpperCase()));
+        }
+        assertNull(Command.fromString("lists"));
+        assertNull(Command.fromString(null));
+
+        parser.runInput("list");
+        assertTrue(parser.runInput("TODO read book").contains("[T][ ] read book"));
+        assertTrue(parser.runInput("Todo write essay").contains("Now you have 2 tasks"));
+        assertTrue(parser.runInput("list").contains("1.[T][ ] read book\n2.[T][ ] write essay"));
+    }
+
+    @Test
+    @DisplayName("Commands should resolve from mixed-case tokens, with or without an option")
+    public void parser_mixedCaseCommands_resolved() {
+        assertEquals(Command.DEADLINE, Command.fromToken(new StringBuilder("DeAdLiNe")));
+        assertEquals(Command.DUE, Command.fromToken(new StringBuilder("dUE")));
+        assertEquals(Command.UNSNOOZE, Command.fromToken(new StringBuilder("UnSnooze")));
+        assertNull(Command.fromToken(new StringBuilder("")));
+        assertNull(Command.fromToken(new StringBuilder("dues")));
+        assertNull(Command.fromToken(new StringBuilder("xyz")));
+
+        assertTrue(parser.runInput("LiSt").contains("To Do List Activated!"));
+        parser.runInput("tOdO read book");
+        assertTrue(parser.runInput("FIND~1 reed").contains("1. [T][ ] read book"));
+        assertTrue(parser.runInput("FiNd book").contains("[T][ ] read book"));
+    }
+
+    @Test
+    @DisplayName("Parser should collapse whitespace and split arguments into tokens")
+    public void parser_tokenizedInput_collapsesWhitespace() {
+        assertEquals("Please enter a command.", parser.runInput("   "));
+        assertEquals("Tab characters not allowed. Please use spaces.",
+                parser.runInput("todo\tread book"));
+        assertTrue(parser.runInput(" ".repeat(11) + "list").contains("Too much whitespace"));
+
+        parser.runInput("  LIST ");
+        assertTrue(parser.runInput("todo   read    book ").contains("[T][ ] read book"));
+        assertTrue(parser.runInput("deadline  submit  report /by   2099-10-15")
+                .contains("[D][ ] submit report"));
+        assertTrue(parser.runInput("snooze  1   2099-10-10").contains("2099-10-10"));
+        assertTrue(parser.runInput("due 2099-10-01  2099-10-31").contains("submit report"));
+        assertTrue(parser.runInput("mark 1 2").contains("Invalid task number: '1 2'"));
+        assertTrue(parser.runInput("find~x book").contains("only letters: find~x"));
+        assertTrue(parser.runInput("bogus~ read").contains("Invalid command: 'bogus~ read'"));
+    }
 }
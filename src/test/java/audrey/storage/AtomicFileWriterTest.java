@@ -0,0 +1,48 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the AtomicFileWriter class */
+public class AtomicFileWriterTest {
+    @TempDir Path tempDir;
+
+    @Test
+    @DisplayName("Atomic write should replace the file contents")
+    public void write_success_replacesContents() throws IOException {
+        Path target = tempDir.resolve("tasks.txt");
+        Files.writeString(target, "old contents");
+
+        AtomicFileWriter.write(target.toFile(),
+                out -> out.write("new contents".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new contents", Files.readString(target));
+        assertFalse(new File(target + ".tmp").exists());
+    }
+
+    @Test
+    @DisplayName("Failed atomic write should leave the original file untouched")
+    public void write_failure_keepsOriginal() throws IOException {
+        Path target = tempDir.resolve("tasks.txt");
+        Files.writeString(target, "old contents");
+
+        assertThrows(IOException.class, () -> AtomicFileWriter.write(target.toFile(), out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old contents", Files.readString(target));
+        assertFalse(new File(target + ".tmp").exists());
+    }
+}
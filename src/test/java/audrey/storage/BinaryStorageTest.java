@@ -0,0 +1,126 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import audrey.task.List;
+
+/** Unit tests for the binary storage format */
+public class BinaryStorageTest {
+    @TempDir Path tempDir;
+
+    private String binaryPath;
+
+    @BeforeEach
+    public void setUp() {
+        binaryPath = tempDir.resolve("tasks.bin").toString();
+    }
+
+    private void addSampleTasks(List todoList) {
+        todoList.addToDos("read book");
+        todoList.addDeadline("return book /by 2025-10-15");
+        todoList.addEvent("project meeting /from 2025-10-20 /to 2025-10-21");
+        todoList.addToDos("water plants");
+        todoList.markTask(2);
+        todoList.snoozeTaskUntil(3, "2099-01-01");
+        todoList.snoozeTaskForever(4);
+    }
+
+    @Test
+    @DisplayName("Binary storage should round trip all task types and states")
+    public void binaryStorage_saveAndLoad_roundTrips() {
+        Storage storage = new Storage(binaryPath, StorageFormat.BINARY);
+        addSampleTasks(storage.getToDoList());
+        String expected = storage.getToDoList().showAllTasks();
+        storage.saveToFile();
+
+        List restored = new Storage(binaryPath, StorageFormat.BINARY).getToDoList();
+        assertEquals(4, restored.size());
+        assertEquals(expected, restored.showAllTasks());
+        assertTrue(restored.getTask(1).isCompleted());
+    }
+
+    @Test
+    @DisplayName("Converter should translate text databases to binary and back")
+    public void storageConverter_textAndBinary_roundTrips() {
+        String textPath = tempDir.resolve("tasks.txt").toString();
+        String convertedPath = tempDir.resolve("converted.txt").toString();
+
+        Storage storage = new Storage(textPath);
+        storage.getToDoList().addToDos("read book");
+        storage.getToDoList().addDeadline("return book /by 2025-10-15");
+        storage.getToDoList().markTask(1);
+        String expected = storage.getToDoList().showAllTasks();
+        storage.saveToFile();
+
+        assertTrue(StorageConverter.textToBinary(textPath, binaryPath));
+        assertEquals(expected,
+                new Storage(binaryPath, StorageFormat.BINARY).getToDoList().showAllTasks());
+
+        assertTrue(StorageConverter.binaryToText(binaryPath, convertedPath));
+        assertEquals(expected, new Storage(convertedPath).getToDoList().showAllTasks());
+    }
+
+    @Test
+    @DisplayName("Binary storage should support journal mode")
+    public void binaryStorage_journaled_replaysChanges() {
+        Storage storage =
+                new Storage(binaryPath, StorageFormat.BINARY, true, new CompactionPolicy());
+        storage.getToDoList().addToDos("first task");
+        storage.saveToFile();
+        storage.getToDoList().addToDos("second task");
+        storage.close();
+
+        Storage reopened =
+                new Storage(binaryPath, StorageFormat.BINARY, true, new CompactionPolicy());
+        assertEquals(2, reopened.getToDoList().size());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Binary storage should keep a text database it cannot read")
+    public void binaryStorage_textFile_backedUpBeforeSave() throws IOException {
+        Path textFile = tempDir.resolve("tasks.bin");
+        byte[] text = "[T][ ] read book\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(textFile, text);
+
+        Storage storage = new Storage(binaryPath, StorageFormat.BINARY);
+        assertEquals(0, storage.getToDoList().size());
+        storage.saveToFile();
+
+        assertTrue(Arrays.equals(text, Files.readAllBytes(Path.of(binaryPath + ".bak"))));
+    }
+
+    @Test
+    @DisplayName("Binary storage should keep the tasks read before a corrupt record")
+    public void binaryStorage_corruptRecord_keepsDecodedTasks() throws IOException {
+        Storage storage = new Storage(binaryPath, StorageFormat.BINARY);
+        addSampleTasks(storage.getToDoList());
+        storage.saveToFile();
+
+        // Give the last description a length far beyond the end of the file
+        byte[] bytes = Files.readAllBytes(Path.of(binaryPath));
+        int lengthOffset = bytes.length - "water plants".length() - Integer.BYTES;
+        bytes[lengthOffset] = 0x7F;
+        Files.write(Path.of(binaryPath), bytes);
+
+        List restored = new Storage(binaryPath, StorageFormat.BINARY).getToDoList();
+        assertEquals(3, restored.size());
+        assertTrue(Files.exists(Path.of(binaryPath + ".bak")));
+
+        // Cutting the file inside the second record keeps only the first task
+        Files.write(Path.of(binaryPath), Arrays.copyOf(bytes, 40));
+        assertEquals(1, new Storage(binaryPath, StorageFormat.BINARY).getToDoList().size());
+    }
+}
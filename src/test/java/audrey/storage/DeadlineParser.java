@@ -1,9 +1,14 @@
 package audrey.storage;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import audrey.task.Deadline;
 import audrey.task.List;
+import audrey.task.Task;
 
 /** Handles parsing of deadline task lines from storage. */
 public class DeadlineParser extends BaseStorageOperation {
@@ -19,7 +24,17 @@ public class DeadlineParser extends BaseStorageOperation {
 
     @Override
     public void execute(String line) {
-        parseDeadlineLine(line);
+        toDoList.addAll(Collections.singletonList(parse(line)));
+    }
+
+    /**
+     * Parses a deadline task line into a task without adding it to the task list.
+     *
+     * @param line The deadline line to parse
+     * @return the parsed deadline task
+     */
+    public Task parse(String line) {
+        return parseDeadlineLine(line);
     }
 
     /**
@@ -33,11 +48,12 @@ public class DeadlineParser extends BaseStorageOperation {
     }
 
     /**
-     * Parses a deadline task line and adds it to the task list.
+     * Parses a deadline task line into a deadline task.
      *
      * @param line The deadline line to parse
+     * @return the parsed deadline task
      */
-    private void parseDeadlineLine(String line) {
+    private Task parseDeadlineLine(String line) {
         Matcher matcher = Pattern.compile(DEADLINE_PATTERN).matcher(line);
 
         if (!matcher.find()) {
@@ -53,24 +69,11 @@ public class DeadlineParser extends BaseStorageOperation {
         validateTaskStatus(status, "Deadline");
         validateDateFormat(deadline, "Deadline");
 
-        addDeadlineToList(task.trim(), deadline.trim(), status);
-    }
-
-    /**
-     * Adds a deadline task to the list with the specified status.
-     *
-     * @param task The task description
-     * @param deadline The deadline date
-     * @param status The completion status
-     */
-    private void addDeadlineToList(String task, String deadline, String status) {
         try {
-            toDoList.addDeadline(task + " /by " + deadline);
-            if ("X".equals(status)) {
-                toDoList.markTask(toDoList.size());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to add deadline task: " + task, e);
+            return Deadline.of(task.trim(), LocalDate.parse(deadline.trim()), "X".equals(status),
+                    null);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid deadline date: " + deadline, e);
         }
     }
 }
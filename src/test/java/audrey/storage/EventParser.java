@@ -2,10 +2,14 @@ package audrey.storage;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.Collections;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import audrey.exception.WrongFromToOrientationException;
+import audrey.task.Event;
 import audrey.task.List;
+import audrey.task.Task;
 
 /** Handles parsing of event task lines from storage. */
 public class EventParser extends BaseStorageOperation {
@@ -21,7 +25,17 @@ public class EventParser extends BaseStorageOperation {
 
     @Override
     public void execute(String line) {
-        parseEventLine(line);
+        toDoList.addAll(Collections.singletonList(parse(line)));
+    }
+
+    /**
+     * Parses an event task line into a task without adding it to the task list.
+     *
+     * @param line The event line to parse
+     * @return the parsed event task
+     */
+    public Task parse(String line) {
+        return parseEventLine(line);
     }
 
     /**
@@ -35,11 +49,12 @@ public class EventParser extends BaseStorageOperation {
     }
 
     /**
-     * Parses an event task line and adds it to the task list.
+     * Parses an event task line into an event task.
      *
      * @param line The event line to parse
+     * @return the parsed event task
      */
-    private void parseEventLine(String line) {
+    private Task parseEventLine(String line) {
         Matcher matcher = Pattern.compile(EVENT_PATTERN).matcher(line);
 
         if (!matcher.find()) {
@@ -56,47 +71,21 @@ public class EventParser extends BaseStorageOperation {
         validateTaskStatus(status, "Event");
         validateDateFormat(from, "Event start");
         validateDateFormat(to, "Event end");
-        validateEventDates(from.trim(), to.trim());
-
-        addEventToList(task.trim(), from.trim(), to.trim(), status);
-    }
 
-    /**
-     * Validates that event dates are in correct order.
-     *
-     * @param from The start date
-     * @param to The end date
-     */
-    private void validateEventDates(String from, String to) {
+        LocalDate startDate;
+        LocalDate endDate;
         try {
-            LocalDate startDate = LocalDate.parse(from);
-            LocalDate endDate = LocalDate.parse(to);
-
-            if (endDate.isBefore(startDate)) {
-                throw new IllegalArgumentException(
-                        "Event end date (" + to + ") cannot be before start date (" + from + ")");
-            }
+            startDate = LocalDate.parse(from.trim());
+            endDate = LocalDate.parse(to.trim());
         } catch (DateTimeParseException e) {
-            System.out.println("Warning: Could not validate date order due to parsing error");
+            throw new IllegalArgumentException("Invalid event dates: " + from + " to " + to, e);
         }
-    }
 
-    /**
-     * Adds an event task to the list with the specified status.
-     *
-     * @param task The task description
-     * @param from The start date
-     * @param to The end date
-     * @param status The completion status
-     */
-    private void addEventToList(String task, String from, String to, String status) {
         try {
-            toDoList.addEvent(task + " /from " + from + " /to " + to);
-            if ("X".equals(status)) {
-                toDoList.markTask(toDoList.size());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to add event task: " + task, e);
+            return Event.of(task.trim(), startDate, endDate, "X".equals(status), null);
+        } catch (WrongFromToOrientationException e) {
+            throw new IllegalArgumentException(
+                    "Event end date (" + to + ") cannot be before start date (" + from + ")");
         }
     }
 }
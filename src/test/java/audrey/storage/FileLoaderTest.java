@@ -0,0 +1,108 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import audrey.task.List;
+
+/** Unit tests for the FileLoader class */
+public class FileLoaderTest {
+    private static final int TASK_COUNT = 6000;
+
+    @TempDir Path tempDir;
+
+    private File writeLargeDatabase() throws IOException {
+        File db = tempDir.resolve("large_storage.txt").toFile();
+        try (FileWriter writer = new FileWriter(db)) {
+            writer.write("# generation 7\n");
+            for (int i = 0; i < TASK_COUNT; i++) {
+                String status = i % 3 == 0 ? "X" : " ";
+                if (i % 3 == 0) {
+                    writer.write("[T][" + status + "] todo number " + i + "\n");
+                } else if (i % 3 == 1) {
+                    writer.write("[D][" + status + "] deadline " + i + " (by: 2025-10-15)\n");
+                } else {
+                    writer.write("[E][" + status + "] event " + i
+                            + " (from: 2025-10-15 to: 2025-10-16)\r\n");
+                }
+                if (i % 1000 == 0) {
+                    writer.write("this line is not a task\n");
+                }
+            }
+        }
+        return db;
+    }
+
+    @Test
+    @DisplayName("Parallel load should produce the same list as a sequential load")
+    public void loadFromFileInParallel_largeFile_matchesSequentialLoad() throws IOException {
+        File db = writeLargeDatabase();
+
+        List sequential = new List();
+        FileLoader sequentialLoader = new FileLoader(sequential, db);
+        sequentialLoader.loadFromFile();
+
+        List parallel = new List();
+        FileLoader parallelLoader = new FileLoader(parallel, db);
+        parallelLoader.loadFromFileInParallel();
+
+        assertEquals(TASK_COUNT, sequential.size());
+        assertEquals(sequential.showAllTasks(), parallel.showAllTasks());
+        assertEquals(7, parallelLoader.getSnapshotGeneration());
+    }
+
+    /**
+     * Loads a file into a new list and returns what the load printed to standard error.
+     *
+     * @param db file to load
+     * @param isParallel whether to load the file in parallel chunks
+     * @return captured error output
+     */
+    private static String loadErrors(File db, boolean isParallel) {
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errors, true));
+        try {
+            FileLoader loader = new FileLoader(new List(), db);
+            if (isParallel) {
+                loader.loadFromFileInParallel();
+            } else {
+                loader.loadFromFile();
+            }
+        } finally {
+            System.setErr(originalErr);
+        }
+        return errors.toString();
+    }
+
+    @Test
+    @DisplayName("Parallel load should report bad lines by file line number, as a sequential load")
+    public void loadFromFileInParallel_badLineInLaterChunk_reportsFileLineNumber()
+            throws IOException {
+        File db = writeLargeDatabase();
+        try (FileWriter writer = new FileWriter(db, true)) {
+            writer.write("[D][ ] bad date (by: 2025-02-30)\n");
+        }
+
+        String sequentialErrors = loadErrors(db, false);
+        String parallelErrors = loadErrors(db, true);
+
+        // The header, the tasks and one unrecognised line per thousand tasks come first
+        int badLine = 1 + TASK_COUNT + TASK_COUNT / 1000 + 1;
+        assertTrue(sequentialErrors.contains("Line 3: "), sequentialErrors);
+        assertTrue(sequentialErrors.contains("Line " + badLine + ": Error parsing line: "
+                + "[D][ ] bad date (by: 2025-02-30)"), sequentialErrors);
+        assertEquals(sequentialErrors, parallelErrors);
+    }
+}
@@ -0,0 +1,109 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import audrey.task.List;
+import audrey.task.Task;
+import audrey.task.TaskLayout;
+
+/** Unit tests for incremental saves in the FileOperations class */
+public class FileOperationsTest {
+    @TempDir Path tempDir;
+
+    private Path dbPath;
+    private Storage storage;
+    private List todoList;
+
+    @BeforeEach
+    public void setUp() {
+        dbPath = tempDir.resolve("incremental.txt");
+        storage = new Storage(dbPath.toString());
+        todoList = storage.getToDoList();
+        todoList.addToDos("read book");
+        todoList.addDeadline("return book /by 2025-10-15");
+        todoList.addEvent("café meetup /from 2025-10-20 /to 2025-10-21");
+        storage.saveToFile();
+    }
+
+    private Object fileKey() throws IOException {
+        return Files.readAttributes(dbPath, BasicFileAttributes.class).fileKey();
+    }
+
+    private String expectedContents() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < todoList.size(); i++) {
+            expected.append(todoList.getTask(i)).append(System.lineSeparator());
+        }
+        return expected.toString();
+    }
+
+    @Test
+    @DisplayName("Marking tasks should patch status fields without replacing the file")
+    public void save_afterMarking_patchesInPlace() throws IOException {
+        Object originalKey = fileKey();
+
+        todoList.markTask(3);
+        todoList.markTask(1);
+        todoList.unmarkTask(1);
+        storage.saveToFile();
+
+        assertEquals(expectedContents(), Files.readString(dbPath));
+        assertEquals(originalKey, fileKey());
+    }
+
+    @Test
+    @DisplayName("Deleting a task should fall back to a full rewrite")
+    public void save_afterDelete_rewritesFile() throws IOException {
+        Object originalKey = fileKey();
+
+        todoList.delete(2);
+        storage.saveToFile();
+        assertEquals(expectedContents(), Files.readString(dbPath));
+        assertNotEquals(originalKey, fileKey());
+
+        // Offsets recorded by the rewrite are used for the next patch
+        todoList.markTask(2);
+        storage.saveToFile();
+        assertEquals(expectedContents(), Files.readString(dbPath));
+    }
+
+    @Test
+    @DisplayName("Changes made after a snapshot was taken should be saved by the next save")
+    public void save_changeAfterSnapshot_keptForNextSave() throws IOException {
+        Path columnarPath = tempDir.resolve("columnar.txt");
+        List columnarList = new List(TaskLayout.COLUMNS);
+        FileOperations fileOperations =
+                new FileOperations(columnarList, columnarPath.toString(), columnarPath.toFile());
+        columnarList.addListener(fileOperations);
+        columnarList.addToDos("read book");
+        columnarList.addToDos("water plants");
+        fileOperations.saveToFile();
+
+        // The mark lands between the snapshot and the patch that writes it
+        Task[] beforeMark = columnarList.snapshot();
+        columnarList.markTask(1);
+        fileOperations.writeSnapshot(beforeMark, BaseStorageOperation.NO_GENERATION);
+        fileOperations.saveToFile();
+        assertEquals("[T][X] read book", Files.readAllLines(columnarPath).get(0));
+
+        // The snooze lands between the snapshot and the rewrite that writes it
+        columnarList.addToDos("buy milk");
+        Task[] beforeSnooze = columnarList.snapshot();
+        columnarList.snoozeTaskForever(2);
+        fileOperations.writeSnapshot(beforeSnooze, BaseStorageOperation.NO_GENERATION);
+        fileOperations.saveToFile();
+        assertEquals("[T][ ] water plants (snoozed forever)",
+                Files.readAllLines(columnarPath).get(1));
+    }
+}
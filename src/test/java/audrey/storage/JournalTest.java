@@ -0,0 +1,158 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import audrey.task.List;
+
+/** Unit tests for journal mode of the Storage class */
+public class JournalTest {
+    @TempDir Path tempDir;
+
+    private String testFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        testFilePath = tempDir.resolve("journal_storage.txt").toString();
+    }
+
+    @Test
+    @DisplayName("Journal should record changes without rewriting the snapshot")
+    public void journal_changes_appendedToJournal() throws IOException {
+        Storage storage = new Storage(testFilePath, true);
+        List todoList = storage.getToDoList();
+        todoList.addToDos("read book");
+        todoList.markTask(1);
+        storage.close();
+
+        String snapshot = Files.readString(Paths.get(testFilePath));
+        String journal = Files.readString(Paths.get(testFilePath + ".journal"));
+        assertFalse(snapshot.contains("read book"));
+        assertTrue(journal.contains("ADDED 1 [T][ ] read book"));
+        assertTrue(journal.contains("MARKED 1"));
+    }
+
+    @Test
+    @DisplayName("Journal should be replayed on top of the snapshot on startup")
+    public void journal_restart_replaysChanges() {
+        Storage storage = new Storage(testFilePath, true);
+        List todoList = storage.getToDoList();
+        todoList.addToDos("first task");
+        todoList.addDeadline("second task /by 2025-10-15");
+        todoList.addToDos("third task");
+        todoList.markTask(2);
+        todoList.delete(1);
+        todoList.snoozeTaskForever(2);
+        storage.close();
+
+        List restored = new Storage(testFilePath, true).getToDoList();
+        assertEquals(2, restored.size());
+        assertTrue(restored.getTask(0).toString().contains("[D][X] second task (by:2025-10-15)"));
+        assertTrue(restored.getTask(1).isSnoozedForever());
+    }
+
+    @Test
+    @DisplayName("Saving should write a snapshot and start a new journal generation")
+    public void journal_save_truncatesJournal() throws IOException {
+        Storage storage = new Storage(testFilePath, true);
+        storage.getToDoList().addToDos("saved task");
+        storage.saveToFile();
+        storage.getToDoList().addToDos("journaled task");
+        storage.close();
+
+        String journal = Files.readString(Paths.get(testFilePath + ".journal"));
+        assertFalse(journal.contains("saved task"));
+        assertTrue(journal.contains("journaled task"));
+
+        List restored = new Storage(testFilePath, true).getToDoList();
+        assertEquals(2, restored.size());
+        assertTrue(restored.getTask(0).toString().contains("saved task"));
+        assertTrue(restored.getTask(1).toString().contains("journaled task"));
+    }
+
+    @Test
+    @DisplayName("Journal already covered by the snapshot should not be replayed twice")
+    public void journal_staleGeneration_ignored() throws IOException {
+        try (FileWriter writer = new FileWriter(testFilePath)) {
+            writer.write("# generation 3\n");
+            writer.write("[T][ ] existing task\n");
+        }
+        try (FileWriter writer = new FileWriter(testFilePath + ".journal")) {
+            writer.write("GENERATION 3\n");
+            writer.write("ADDED 1 [T][ ] existing task\n");
+        }
+
+        List restored = new Storage(testFilePath, true).getToDoList();
+        assertEquals(1, restored.size());
+    }
+
+    @Test
+    @DisplayName("Torn trailing journal record should be skipped")
+    public void journal_tornRecord_skipped() throws IOException {
+        try (FileWriter writer = new FileWriter(testFilePath + ".journal")) {
+            writer.write("GENERATION 1\n");
+            writer.write("ADDED 1 [T][ ] complete task\n");
+            writer.write("MARK");
+        }
+
+        Storage storage = new Storage(testFilePath, true);
+        List todoList = storage.getToDoList();
+        assertEquals(1, todoList.size());
+        assertFalse(todoList.getTask(0).isCompleted());
+
+        todoList.addToDos("after crash");
+        storage.close();
+        assertEquals(2, new Storage(testFilePath, true).getToDoList().size());
+    }
+
+    @Test
+    @DisplayName("Compaction should fold the journal into a snapshot once a threshold is reached")
+    public void journal_thresholdReached_compacts() throws IOException {
+        Storage storage = new Storage(testFilePath, true, new CompactionPolicy(1024 * 1024, 3));
+        List todoList = storage.getToDoList();
+        for (int i = 1; i <= 5; i++) {
+            todoList.addToDos("task " + i);
+        }
+        todoList.markTask(2);
+        storage.close();
+
+        String snapshot = Files.readString(Paths.get(testFilePath));
+        assertTrue(snapshot.startsWith("# generation "));
+        assertTrue(snapshot.contains("task 3"));
+        assertFalse(Files.exists(Paths.get(testFilePath + ".journal.1")));
+
+        List restored = new Storage(testFilePath, true).getToDoList();
+        assertEquals(5, restored.size());
+        assertTrue(restored.getTask(1).isCompleted());
+        assertTrue(restored.getTask(4).toString().contains("task 5"));
+    }
+
+    @Test
+    @DisplayName("Rotated journal left by an unfinished compaction should be replayed")
+    public void journal_unfinishedCompaction_replaysRotatedJournal() throws IOException {
+        try (FileWriter writer = new FileWriter(testFilePath + ".journal.1")) {
+            writer.write("GENERATION 1\n");
+            writer.write("ADDED 1 [T][ ] rotated task\n");
+        }
+        try (FileWriter writer = new FileWriter(testFilePath + ".journal")) {
+            writer.write("GENERATION 2\n");
+            writer.write("MARKED 1\n");
+        }
+
+        List restored = new Storage(testFilePath, true).getToDoList();
+        assertEquals(1, restored.size());
+        assertTrue(restored.getTask(0).toString().contains("[T][X] rotated task"));
+    }
+}
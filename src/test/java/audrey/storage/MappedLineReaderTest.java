@@ -0,0 +1,72 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the MappedLineReader class */
+public class MappedLineReaderTest {
+    @TempDir Path tempDir;
+
+    private MappedLineReader readerFor(String contents) throws IOException {
+        Path file = tempDir.resolve("lines.txt");
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = MappedLineReader.map(file.toFile());
+        return new MappedLineReader(buffer, 0, buffer.limit());
+    }
+
+    @Test
+    @DisplayName("Reader should split lines on LF and CRLF terminators")
+    public void nextLine_mixedTerminators_splitsLines() throws IOException {
+        MappedLineReader reader = readerFor("[T][ ] first\r\n[T][X] second\n\nlast");
+
+        assertEquals("[T][ ] first", reader.nextLine());
+        assertEquals("[T][X] second", reader.nextLine());
+        assertEquals("", reader.nextLine());
+        assertEquals("last", reader.nextLine());
+        assertFalse(reader.hasNextLine());
+        assertNull(reader.nextLine());
+    }
+
+    @Test
+    @DisplayName("Reader should decode multi-byte UTF-8 descriptions")
+    public void nextLine_utf8Text_decodesCorrectly() throws IOException {
+        MappedLineReader reader = readerFor("[T][ ] café ☕\n");
+
+        assertEquals("[T][ ] café ☕", reader.nextLine());
+        assertFalse(reader.hasNextLine());
+    }
+
+    @Test
+    @DisplayName("Reader should return no lines for an empty file")
+    public void hasNextLine_emptyFile_returnsFalse() throws IOException {
+        assertFalse(readerFor("").hasNextLine());
+    }
+
+    @Test
+    @DisplayName("Small files should be read onto the heap so they can be replaced afterwards")
+    public void map_smallFile_notMemoryMapped() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Files.write(file, "[T][ ] read book\n".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = MappedLineReader.map(file.toFile());
+
+        assertFalse(buffer instanceof MappedByteBuffer);
+        Path replacement = tempDir.resolve("tasks.tmp");
+        Files.write(replacement, "[T][X] read book\n".getBytes(StandardCharsets.UTF_8));
+        Files.move(replacement, file, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("[T][ ] read book", new MappedLineReader(buffer, 0, buffer.limit()).nextLine());
+    }
+}
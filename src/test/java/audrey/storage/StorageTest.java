@@ -1,6 +1,7 @@
 package audrey.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -119,11 +120,11 @@ public class StorageTest {
     }
 
     @Test
-    @DisplayName("Storage should create backup before saving")
-    public void storage_createBackup_works() throws IOException {
+    @DisplayName("Storage should replace the file atomically when saving")
+    public void storage_save_replacesFileAtomically() throws IOException {
         // Create initial content
         try (FileWriter writer = new FileWriter(testFilePath)) {
-            writer.write("T | 0 | original task\n");
+            writer.write("[T][ ] original task\n");
         }
 
         Storage newStorage = new Storage(testFilePath);
@@ -132,12 +133,13 @@ public class StorageTest {
 
         newStorage.saveToFile();
 
-        // Check if backup was created
-        File backupFile = new File(testFilePath + ".backup");
-        assertTrue(backupFile.exists());
+        String content = Files.readString(Paths.get(testFilePath));
+        assertTrue(content.contains("original task"));
+        assertTrue(content.contains("new task"));
 
-        String backupContent = Files.readString(backupFile.toPath());
-        assertTrue(backupContent.contains("original task"));
+        // No backup copy or temporary file should be left behind
+        assertFalse(new File(testFilePath + ".backup").exists());
+        assertFalse(new File(testFilePath + ".tmp").exists());
     }
 
     @Test
@@ -10,7 +10,10 @@ import org.junit.platform.suite.api.SuiteDisplayName;
  */
 @Suite
 @SuiteDisplayName("Storage Package Test Suite")
-@SelectClasses({StorageTest.class})
+@SelectClasses({StorageTest.class, JournalTest.class, BinaryStorageTest.class,
+    MappedLineReaderTest.class, FileLoaderTest.class, TaskLineLexerTest.class,
+    AtomicFileWriterTest.class, WriteBehindFlusherTest.class,
+    FileOperationsTest.class})
 public class StorageTestSuite {
     // This class remains empty; it is used only as a holder for the above annotations
 }
@@ -0,0 +1,112 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import audrey.exception.WrongFromToOrientationException;
+import audrey.task.Deadline;
+import audrey.task.Event;
+import audrey.task.List;
+import audrey.task.Task;
+
+/** Unit tests for the TaskLineLexer class */
+public class TaskLineLexerTest {
+    private TaskLineLexer lexer;
+    private List todoList;
+
+    @BeforeEach
+    public void setUp() {
+        todoList = new List();
+        lexer = new TaskLineLexer(todoList);
+    }
+
+    /**
+     * Parses a line through the original regex parsers.
+     *
+     * @param line trimmed stored line
+     * @return parsed task, or null if no pattern matches
+     */
+    private Task parseWithRegex(String line) {
+        if (TodoParser.isTodoLine(line)) {
+            return new TodoParser(todoList).parse(line);
+        } else if (DeadlineParser.isDeadlineLine(line)) {
+            return new DeadlineParser(todoList).parse(line);
+        } else if (EventParser.isEventLine(line)) {
+            return new EventParser(todoList).parse(line);
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("Lexer should produce the same tasks as the regex parsers")
+    public void parse_validLines_matchesRegexParsers() {
+        String[] lines = {
+            "[T][ ] read book",
+            "[T][X]    spaced   todo",
+            "[T][ ] todo with (by: 2025-10-15) inside",
+            "[D][ ] return book (by:2025-10-15)",
+            "[D][X] return book  (by:   2025-10-15 )",
+            "[E][ ] project meeting (from:2025-10-15 to:2025-10-16)",
+            "[E][X] trip (from:  2025-10-15   to:  2025-10-16)",
+            "[T][ ] 买菜 & go to café",
+        };
+
+        for (String line : lines) {
+            assertEquals(parseWithRegex(line).toString(), lexer.parse(line).toString(), line);
+        }
+    }
+
+    @Test
+    @DisplayName("Lexer should reject lines that no stored task pattern matches")
+    public void parse_unrecognizedLines_returnsNull() {
+        String[] lines = {
+            "this is not a task",
+            "[T][ ]",
+            "[T][?] bad status",
+            "[Q][ ] unknown type",
+            "[D][ ] missing by marker",
+            "[D][ ] unterminated (by:2025-10-15",
+            "[E][ ] missing to (from:2025-10-15)",
+        };
+
+        for (String line : lines) {
+            assertNull(parseWithRegex(line), line);
+            assertNull(lexer.parse(line), line);
+        }
+    }
+
+    @Test
+    @DisplayName("Lexer should reject invalid dates and reversed events")
+    public void parse_invalidFields_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> lexer.parse("[D][ ] bad date (by:2025-02-30)"));
+        assertThrows(IllegalArgumentException.class,
+                () -> lexer.parse("[D][ ] bad format (by:15/10/2025)"));
+        assertThrows(IllegalArgumentException.class,
+                () -> lexer.parse("[E][ ] reversed (from:2025-10-16 to:2025-10-15)"));
+    }
+
+    @Test
+    @DisplayName("Lexer should load descriptions that contain a date marker as they were saved")
+    public void parse_markerInDescription_usesLastMarker() throws WrongFromToOrientationException {
+        Task[] tasks = {
+            Deadline.of("a (by: 2025-01-01)", LocalDate.parse("2025-02-02"), false, null),
+            Event.of("sync (from: 2025-01-01 to: 2025-01-02)", LocalDate.parse("2025-03-01"),
+                    LocalDate.parse("2025-03-02"), true, null),
+        };
+
+        for (Task task : tasks) {
+            String line = task.toString();
+            assertEquals(line, lexer.parse(line).toString(), line);
+        }
+        assertEquals("[D][ ] a (by: 2025-01-01) (by:2025-02-02)",
+                lexer.parse("[D][ ] a (by: 2025-01-01) (by:2025-02-02)").toString());
+    }
+}
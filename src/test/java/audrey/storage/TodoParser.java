@@ -1,9 +1,12 @@
 package audrey.storage;
 
+import java.util.Collections;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import audrey.task.List;
+import audrey.task.Task;
+import audrey.task.Todo;
 
 /** Handles parsing of todo task lines from storage. */
 public class TodoParser extends BaseStorageOperation {
@@ -19,7 +22,17 @@ public class TodoParser extends BaseStorageOperation {
 
     @Override
     public void execute(String line) {
-        parseTodoLine(line);
+        toDoList.addAll(Collections.singletonList(parse(line)));
+    }
+
+    /**
+     * Parses a todo task line into a task without adding it to the task list.
+     *
+     * @param line The todo line to parse
+     * @return the parsed todo task
+     */
+    public Task parse(String line) {
+        return parseTodoLine(line);
     }
 
     /**
@@ -33,11 +46,12 @@ public class TodoParser extends BaseStorageOperation {
     }
 
     /**
-     * Parses a todo task line and adds it to the task list.
+     * Parses a todo task line into a todo task.
      *
      * @param line The todo line to parse
+     * @return the parsed todo task
      */
-    private void parseTodoLine(String line) {
+    private Task parseTodoLine(String line) {
         Matcher matcher = Pattern.compile(TODO_PATTERN).matcher(line);
 
         if (!matcher.find()) {
@@ -51,23 +65,6 @@ public class TodoParser extends BaseStorageOperation {
         validateTaskDescription(task, "Todo");
         validateTaskStatus(status, "Todo");
 
-        addTodoToList(task.trim(), status);
-    }
-
-    /**
-     * Adds a todo task to the list with the specified status.
-     *
-     * @param task The task description
-     * @param status The completion status
-     */
-    private void addTodoToList(String task, String status) {
-        try {
-            toDoList.addToDos(task);
-            if ("X".equals(status)) {
-                toDoList.markTask(toDoList.size());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to add todo task: " + task, e);
-        }
+        return Todo.of(task.trim(), "X".equals(status), null);
     }
 }
@@ -0,0 +1,123 @@
+package audrey.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import audrey.task.List;
+import audrey.task.Task;
+
+/** Unit tests for write-behind persistence */
+public class WriteBehindFlusherTest {
+    private static final long WAIT_TIMEOUT_MILLIS = 5000;
+
+    @TempDir Path tempDir;
+
+    /** Snapshot writer that only counts and remembers what it was asked to write. */
+    private static class RecordingWriter implements SnapshotWriter {
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private volatile int lastTaskCount = -1;
+
+        @Override
+        public boolean writeSnapshot(Task[] tasks, long generation) {
+            lastTaskCount = tasks.length;
+            writeCount.incrementAndGet();
+            return true;
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Bursts of changes should be coalesced into one background flush")
+    public void flusher_burstOfChanges_coalescedIntoOneWrite() throws InterruptedException {
+        List todoList = new List();
+        RecordingWriter writer = new RecordingWriter();
+        WriteBehindFlusher flusher = new WriteBehindFlusher(todoList, writer, 200);
+        todoList.addListener(flusher);
+
+        for (int i = 0; i < 50; i++) {
+            todoList.addToDos("task " + i);
+        }
+        waitUntil(() -> writer.writeCount.get() > 0);
+
+        assertEquals(1, writer.writeCount.get());
+        assertEquals(50, writer.lastTaskCount);
+        assertFalse(flusher.isDirty());
+        flusher.close();
+    }
+
+    @Test
+    @DisplayName("Closing should flush pending changes synchronously")
+    public void flusher_close_flushesPendingChanges() {
+        List todoList = new List();
+        RecordingWriter writer = new RecordingWriter();
+        WriteBehindFlusher flusher = new WriteBehindFlusher(todoList, writer, 60_000);
+        todoList.addListener(flusher);
+
+        todoList.addToDos("unsaved task");
+        assertTrue(flusher.isDirty());
+        flusher.close();
+
+        assertEquals(1, writer.writeCount.get());
+        assertEquals(1, writer.lastTaskCount);
+        assertFalse(flusher.isDirty());
+    }
+
+    @Test
+    @DisplayName("Storage with write-behind should persist changes without an explicit save")
+    public void storage_writeBehind_persistsChanges() throws InterruptedException {
+        String filePath = tempDir.resolve("write_behind.txt").toString();
+        Storage storage = new Storage(filePath);
+        storage.startWriteBehind(50);
+        storage.getToDoList().addToDos("background task");
+
+        waitUntil(() -> new Storage(filePath).getToDoList().size() == 1);
+        assertEquals(1, new Storage(filePath).getToDoList().size());
+
+        storage.getToDoList().addToDos("last task");
+        storage.close();
+        assertEquals(2, new Storage(filePath).getToDoList().size());
+    }
+
+    @Test
+    @DisplayName("Background flushes should not print while only an explicit save confirms")
+    public void storage_writeBehind_flushesQuietly() throws InterruptedException, IOException {
+        Path file = tempDir.resolve("quiet.txt");
+        Storage storage = new Storage(file.toString());
+        storage.startWriteBehind(10);
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            storage.getToDoList().addToDos("background task");
+            waitUntil(() -> file.toFile().length() > 0);
+            assertFalse(output.toString().contains("saved"));
+
+            storage.saveToFile();
+            assertTrue(output.toString().contains("Tasks saved successfully"));
+        } finally {
+            System.setOut(originalOut);
+            storage.close();
+        }
+        assertTrue(Files.readString(file).contains("background task"));
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -102,4 +104,15 @@ public class DeadlineTest {
         assertTrue(deadline.isSnoozed());
         assertTrue(deadline.toString().contains("snoozed forever"));
     }
+
+    @Test
+    @DisplayName("Deadline factory should match the string constructor")
+    public void deadline_of_matchesStringConstructor() {
+        Deadline parsed = assertDoesNotThrow(() -> new Deadline("submit report /by 2025-10-15"));
+        parsed.markTask();
+        Deadline restored = Deadline.of("submit report", LocalDate.of(2025, 10, 15), true, null);
+
+        assertEquals(parsed.toString(), restored.toString());
+        assertEquals(LocalDate.of(2025, 10, 15), restored.getDeadline());
+    }
 }
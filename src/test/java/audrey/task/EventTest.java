@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -114,4 +116,15 @@ public class EventTest {
         assertThrows(MissingEventException.class, () -> new Event("bad /from 2025-02-30 /to 2025-03-01"));
         assertThrows(MissingEventException.class, () -> new Event("bad /from 2025-01-01 /to 2025-13-01"));
     }
+
+    @Test
+    @DisplayName("Event factory should restore fields and reject reversed dates")
+    public void event_of_restoresFieldsAndValidatesOrder() {
+        Event event = assertDoesNotThrow(() -> Event.of("trip",
+                LocalDate.of(2025, 12, 12), LocalDate.of(2025, 12, 23), false, null));
+        assertEquals("[E][ ] trip (from:2025-12-12 to:2025-12-23)", event.toString());
+
+        assertThrows(WrongFromToOrientationException.class, () -> Event.of("trip",
+                LocalDate.of(2025, 12, 23), LocalDate.of(2025, 12, 12), false, null));
+    }
 }
@@ -3,7 +3,10 @@ package audrey.task;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -213,4 +216,385 @@ public class ListTest {
         assertEquals(1, activeTasks.size());
         assertTrue(activeTasks.get(0).toString().contains("active task"));
     }
+
+    @Test
+    @DisplayName("Adding tasks in bulk should append them in order")
+    public void list_addAll_appendsInOrder() {
+        taskList.addToDos("existing task");
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(Todo.of("first", false, null));
+        tasks.add(Todo.of("second", true, null));
+
+        taskList.addAll(tasks);
+
+        assertEquals(3, taskList.size());
+        assertEquals("[T][ ] first", taskList.getTask(1).toString());
+        assertEquals("[T][X] second", taskList.getTask(2).toString());
+    }
+
+    @Test
+    @DisplayName("Indexed find should return the same tasks in the same order as a scan")
+    public void list_findTasks_matchesFullScan() {
+        taskList.addToDos("read book");
+        taskList.addDeadline("return book /by 2025-10-15");
+        taskList.addEvent("book club /from 2025-10-20 /to 2025-10-21");
+        taskList.addToDos("bookkeeping");
+        taskList.addToDos("water plants");
+        taskList.markTask(2);
+        taskList.delete(1);
+        taskList.snoozeTaskForever(3);
+
+        String[] queries = {"book", "ook", "X", "2025", "forever", "club", "b", "[X]", "book c"};
+        for (String query : queries) {
+            ArrayList<Task> expected = new ArrayList<>();
+            for (int i = 0; i < taskList.size(); i++) {
+                if (taskList.getTask(i).toString().contains(query)) {
+                    expected.add(taskList.getTask(i));
+                }
+            }
+            assertEquals(expected, taskList.findTasks(query), query);
+        }
+    }
+
+    @Test
+    @DisplayName("Substring find should stay exact while tasks change after indexing")
+    public void list_findTasks_substringAfterChanges() {
+        taskList.addToDos("team meeting notes");
+        taskList.addEvent("meetup /from 2025-10-20 /to 2025-10-21");
+        assertEquals(2, taskList.findTasks("meet").size());
+
+        taskList.addToDos("prepare meeting agenda");
+        taskList.delete(1);
+        taskList.markTask(1);
+        taskList.snoozeTaskForever(2);
+
+        ArrayList<Task> result = taskList.findTasks("meet");
+        assertEquals(2, result.size());
+        assertEquals("[E][X] meetup (from:2025-10-20 to:2025-10-21)", result.get(0).toString());
+        assertTrue(result.get(1).toString().contains("prepare meeting agenda"));
+
+        assertEquals(1, taskList.findTasks("[X] mee").size());
+        assertEquals(1, taskList.findTasks("(snoozed forever)").size());
+        assertEquals(0, taskList.findTasks("notes").size());
+    }
+
+    @Test
+    @DisplayName("Fuzzy find should rank closer matches first and forget deleted tasks")
+    public void list_findTasksFuzzy_ranksByDistance() {
+        taskList.addToDos("Read book");
+        taskList.addToDos("bread shopping");
+        taskList.addToDos("write report");
+
+        ArrayList<Task> result = taskList.findTasksFuzzy("reed", 2);
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).toString().contains("Read book"));
+        assertTrue(result.get(1).toString().contains("bread shopping"));
+
+        assertEquals(1, taskList.findTasksFuzzy("reed", 1).size());
+        assertEquals(1, taskList.findTasksFuzzy("raed bok", 2).size());
+        assertEquals(0, taskList.findTasksFuzzy("reed report", 2).size());
+
+        taskList.delete(1);
+        result = taskList.findTasksFuzzy("reed", 2);
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).toString().contains("bread shopping"));
+    }
+
+    @Test
+    @DisplayName("Date range queries should return deadlines and events in date order")
+    public void list_findTasksBetween_ordersByDate() {
+        taskList.addEvent("conference /from 2025-10-20 /to 2025-10-22");
+        taskList.addToDos("read book");
+        taskList.addDeadline("submit report /by 2025-10-15");
+        taskList.addDeadline("pay rent /by 2025-10-20");
+        taskList.addDeadline("renew passport /by 2025-11-01");
+
+        ArrayList<Task> result = taskList.findTasksBetween(
+                LocalDate.parse("2025-10-15"), LocalDate.parse("2025-10-20"));
+        assertEquals(3, result.size());
+        assertTrue(result.get(0).toString().contains("submit report"));
+        assertTrue(result.get(1).toString().contains("conference"));
+        assertTrue(result.get(2).toString().contains("pay rent"));
+
+        taskList.delete(1);
+        taskList.addEvent("workshop /from 2025-10-16 /to 2025-10-16");
+        result = taskList.findTasksBetween(
+                LocalDate.parse("2025-10-16"), LocalDate.parse("2025-10-31"));
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).toString().contains("workshop"));
+        assertTrue(result.get(1).toString().contains("pay rent"));
+
+        assertEquals(0, taskList.findTasksBetween(
+                LocalDate.parse("2025-10-31"), LocalDate.parse("2025-10-01")).size());
+    }
+
+    @Test
+    @DisplayName("Overlapping event lookups should match a scan over all events")
+    public void list_findOverlappingEvents_matchesFullScan() {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.parse("2025-01-01");
+        for (int i = 0; i < 300; i++) {
+            LocalDate from = base.plusDays(random.nextInt(365));
+            LocalDate to = from.plusDays(random.nextInt(10));
+            taskList.addEvent("event" + i + " /from " + from + " /to " + to);
+            if (i % 7 == 0) {
+                taskList.addToDos("todo" + i);
+            }
+        }
+        for (int i = 0; i < 40; i++) {
+            taskList.delete(1 + random.nextInt(taskList.size()));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            LocalDate from = base.plusDays(random.nextInt(380));
+            LocalDate to = from.plusDays(random.nextInt(5));
+
+            ArrayList<Event> expected = new ArrayList<>();
+            for (int j = 0; j < taskList.size(); j++) {
+                Task task = taskList.getTask(j);
+                if (task instanceof Event && !((Event) task).getFrom().isAfter(to)
+                        && !((Event) task).getTo().isBefore(from)) {
+                    expected.add((Event) task);
+                }
+            }
+            expected.sort(Comparator.comparing(Event::getFrom));
+
+            assertEquals(expected, taskList.findOverlappingEvents(from, to), from + " " + to);
+        }
+    }
+
+    @Test
+    @DisplayName("Event conflicts should report each clashing pair once")
+    public void list_findEventConflicts_reportsPairs() {
+        taskList.addEvent("camp /from 2025-10-10 /to 2025-10-12");
+        taskList.addEvent("exam /from 2025-10-12 /to 2025-10-12");
+        taskList.addEvent("trip /from 2025-10-13 /to 2025-10-20");
+        taskList.addEvent("fair /from 2025-10-01 /to 2025-10-31");
+
+        ArrayList<Event[]> conflicts = taskList.findEventConflicts();
+        assertEquals(4, conflicts.size());
+        assertTrue(conflicts.get(0)[0].toString().contains("camp"));
+        assertTrue(conflicts.get(0)[1].toString().contains("fair"));
+        assertTrue(conflicts.get(1)[1].toString().contains("exam"));
+        assertTrue(conflicts.get(3)[0].toString().contains("trip"));
+        assertTrue(conflicts.get(3)[1].toString().contains("fair"));
+
+        taskList.delete(4);
+        assertEquals(1, taskList.findEventConflicts().size());
+    }
+
+    @Test
+    @DisplayName("Active tasks should follow snoozes as they are set, changed and expire")
+    public void list_activeTasks_followSnoozeChanges() {
+        String yesterday = LocalDate.now().minusDays(1).toString();
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+        taskList.addToDos("first");
+        taskList.addToDos("second");
+        taskList.addToDos("third");
+        ArrayList<Task> loaded = new ArrayList<>();
+        loaded.add(Todo.of("expired", false, LocalDate.now().minusDays(2)));
+        taskList.addAll(loaded);
+
+        taskList.snoozeTaskUntil(1, tomorrow);
+        taskList.snoozeTaskUntil(2, yesterday);
+        taskList.snoozeTaskForever(3);
+        assertEquals(2, taskList.getActiveTasks().size());
+
+        taskList.snoozeTaskUntil(1, yesterday);
+        taskList.snoozeTaskUntil(2, tomorrow);
+        ArrayList<Task> active = taskList.getActiveTasks();
+        assertEquals(2, active.size());
+        assertEquals("[T][ ] first", active.get(0).toString());
+        assertEquals("[T][ ] expired", active.get(1).toString());
+
+        taskList.unsnoozeTask(3);
+        taskList.delete(2);
+        assertEquals("1.[T][ ] first\n2.[T][ ] third\n3.[T][ ] expired\n",
+                taskList.toStringActiveTasks());
+    }
+
+    @Test
+    @DisplayName("Display numbers should map to list positions while tasks change")
+    public void list_displayIndex_matchesActiveNumbering() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            taskList.addToDos("task" + i);
+            int position = 1 + random.nextInt(taskList.size());
+            switch (random.nextInt(4)) {
+            case 0:
+                taskList.snoozeTaskForever(position);
+                break;
+            case 1:
+                taskList.unsnoozeTask(position);
+                break;
+            case 2:
+                taskList.delete(position);
+                break;
+            default:
+                break;
+            }
+
+            ArrayList<Task> active = taskList.getActiveTasks();
+            assertEquals(active.size(), taskList.activeSize());
+            int displayIndex = 0;
+            for (int j = 1; j <= taskList.size(); j++) {
+                if (taskList.getTask(j - 1).isSnoozed()) {
+                    assertEquals(-1, taskList.toDisplayIndex(j));
+                } else {
+                    displayIndex++;
+                    assertEquals(displayIndex, taskList.toDisplayIndex(j));
+                    assertEquals(j, taskList.toStorageIndex(displayIndex));
+                }
+            }
+            assertEquals(-1, taskList.toStorageIndex(displayIndex + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Bulk deletes should keep list order across compactions")
+    public void list_bulkDelete_keepsOrderAcrossCompaction() {
+        Random random = new Random(11);
+        ArrayList<String> expected = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            taskList.addToDos("task" + i);
+            expected.add("[T][ ] task" + i);
+        }
+
+        for (int round = 0; round < 380; round++) {
+            int position = 1 + random.nextInt(taskList.size());
+            taskList.delete(position);
+            expected.remove(position - 1);
+            if (round % 50 == 0) {
+                taskList.addToDos("late" + round);
+                expected.add("[T][ ] late" + round);
+            }
+            if (round % 10 == 0) {
+                int snoozed = 1 + random.nextInt(taskList.size());
+                if (!expected.get(snoozed - 1).contains("snoozed")) {
+                    taskList.snoozeTaskForever(snoozed);
+                    expected.set(snoozed - 1, expected.get(snoozed - 1) + " (snoozed forever)");
+                }
+            }
+
+            assertEquals(expected.size(), taskList.size());
+            Task[] snapshot = taskList.snapshot();
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), snapshot[i].toString());
+                assertEquals(expected.get(i), taskList.getTask(i).toString());
+            }
+        }
+
+        int active = 0;
+        for (String line : expected) {
+            active += line.contains("snoozed") ? 0 : 1;
+        }
+        assertEquals(active, taskList.activeSize());
+        assertEquals(active, taskList.getActiveTasks().size());
+    }
+
+    @Test
+    @DisplayName("Columnar layout should behave like the object layout")
+    public void list_columnarLayout_matchesObjectLayout() {
+        List columnList = new List(TaskLayout.COLUMNS);
+        Random random = new Random(7);
+        LocalDate base = TaskClock.today();
+        for (int round = 0; round < 600; round++) {
+            int action = random.nextInt(10);
+            int position = taskList.size() == 0 ? 1 : 1 + random.nextInt(taskList.size());
+            String date = base.plusDays(random.nextInt(60)).toString();
+            String later = base.plusDays(60 + random.nextInt(5)).toString();
+            if (action < 2) {
+                assertEquals(taskList.addToDos("todo" + round), columnList.addToDos("todo" + round));
+            } else if (action < 4) {
+                String description = "report" + round + " /by " + date;
+                assertEquals(taskList.addDeadline(description), columnList.addDeadline(description));
+            } else if (action < 6) {
+                String description = "meet" + round + " /from " + date + " /to " + later;
+                assertEquals(taskList.addEvent(description), columnList.addEvent(description));
+            } else if (action == 6 && taskList.size() > 0) {
+                assertEquals(taskList.delete(position), columnList.delete(position));
+            } else if (action == 7 && taskList.size() > 0) {
+                assertEquals(taskList.markTask(position), columnList.markTask(position));
+            } else if (action == 8 && taskList.size() > 0) {
+                assertEquals(taskList.snoozeTaskUntil(position, date),
+                        columnList.snoozeTaskUntil(position, date));
+            } else if (taskList.size() > 0) {
+                assertEquals(taskList.unsnoozeTask(position), columnList.unsnoozeTask(position));
+            }
+        }
+
+        assertEquals(taskList.toString(), columnList.toString());
+        assertEquals(taskList.showList(), columnList.showList());
+        assertEquals(taskList.activeSize(), columnList.activeSize());
+        assertEquals(taskList.findTasks("report1").toString(),
+                columnList.findTasks("report1").toString());
+        assertEquals(taskList.findTasksFuzzy("meat", 1).toString(),
+                columnList.findTasksFuzzy("meat", 1).toString());
+        assertEquals(taskList.findTasksBetween(base, base.plusDays(10)).toString(),
+                columnList.findTasksBetween(base, base.plusDays(10)).toString());
+        assertEquals(taskList.findEventConflicts().size(), columnList.findEventConflicts().size());
+
+        for (int i = 0; i < taskList.size(); i++) {
+            if (taskList.getTask(i) instanceof Event) {
+                Event event = (Event) columnList.getTask(i);
+                assertEquals(taskList.findClashingEvents((Event) taskList.getTask(i)).toString(),
+                        columnList.findClashingEvents(event).toString());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Writing active tasks should start at any number and match the full list")
+    public void list_writeActiveTasks_matchesShowList() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            taskList.addToDos("task" + i);
+        }
+        for (int i = 1; i <= 50; i += 4) {
+            taskList.snoozeTaskForever(i);
+        }
+        taskList.delete(10);
+
+        String full = taskList.toStringActiveTasks();
+        StringBuilder pages = new StringBuilder();
+        for (int first = 1; first <= taskList.activeSize(); first += 7) {
+            assertEquals(Math.min(7, taskList.activeSize() - first + 1),
+                    taskList.writeActiveTasks(pages, first, 7));
+        }
+        assertEquals(full, pages.toString());
+        assertEquals(0, taskList.writeActiveTasks(pages, taskList.activeSize() + 1, 7));
+    }
+
+    @Test
+    @DisplayName("Snapshots taken while tasks are marked should always be complete")
+    public void list_snapshotDuringMarking_consistent() throws InterruptedException {
+        List columnList = new List(TaskLayout.COLUMNS);
+        for (int i = 0; i < 200; i++) {
+            columnList.addToDos("todo" + i);
+        }
+
+        ArrayList<Throwable> failures = new ArrayList<>();
+        Thread snapshotter = new Thread(() -> {
+            try {
+                for (int round = 0; round < 500; round++) {
+                    for (Task task : columnList.snapshot()) {
+                        assertTrue(task.toString().startsWith("[T]"), task.toString());
+                    }
+                }
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+        snapshotter.start();
+        for (int round = 0; round < 2000; round++) {
+            int position = 1 + round % 200;
+            columnList.snoozeTaskUntil(position, "2099-01-01");
+            columnList.unsnoozeTask(position);
+            columnList.markTask(position);
+            columnList.unmarkTask(position);
+        }
+        snapshotter.join();
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(200, columnList.activeSize());
+    }
 }
@@ -2,6 +2,7 @@ package audrey.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
@@ -113,4 +114,59 @@ public class TaskTest {
         String expected = "[T][ ] test task (snoozed forever)";
         assertEquals(expected, testTask.toString());
     }
+
+    @Test
+    @DisplayName("Snooze expiry should follow a fixed clock until it is refreshed")
+    public void task_fixedClock_controlsSnoozeExpiry() {
+        try {
+            TaskClock.useFixedDate(LocalDate.parse("2025-10-15"));
+            testTask.snooze(LocalDate.parse("2025-10-15"));
+            assertTrue(testTask.isSnoozed());
+            assertEquals("[T][ ] test task (snoozed until 2025-10-15)", testTask.toString());
+
+            TaskClock.useFixedDate(LocalDate.parse("2025-10-16"));
+            assertFalse(testTask.isSnoozed());
+            assertEquals("[T][ ] test task", testTask.toString());
+        } finally {
+            TaskClock.useSystemClock();
+        }
+    }
+
+    @Test
+    @DisplayName("Rendered line should be reused until the task changes")
+    public void task_toString_reusedUntilChanged() {
+        Deadline deadline = Deadline.of("return book", LocalDate.parse("2099-10-15"), false, null);
+        String line = deadline.toString();
+        assertSame(line, deadline.toString());
+
+        deadline.markTask();
+        assertEquals("[D][X] return book (by:2099-10-15)", deadline.toString());
+        deadline.unmarkTask();
+        deadline.snoozeForever();
+        assertEquals("[D][ ] return book (snoozed forever) (by:2099-10-15)", deadline.toString());
+        assertSame(deadline.toString(), deadline.toString());
+        deadline.unsnooze();
+        assertEquals(line, deadline.toString());
+    }
+
+    @Test
+    @DisplayName("Task line should show the latest state while another thread renders it")
+    public void task_toString_freshAfterConcurrentRender() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            Todo todo = new Todo("read book");
+            Thread renderer = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    todo.toString();
+                }
+            });
+            renderer.start();
+            for (int i = 0; i < 50; i++) {
+                todo.markTask();
+                todo.unmarkTask();
+            }
+            todo.markTask();
+            renderer.join();
+            assertEquals("[T][X] read book", todo.toString());
+        }
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +63,14 @@ public class TodoTest {
         String expected = "[T][ ]   spaced  task  ";
         assertEquals(expected, todo.toString());
     }
+
+    @Test
+    @DisplayName("Todo factory should restore parsed fields")
+    public void todo_of_restoresFields() {
+        Todo todo = Todo.of("read book", true, LocalDate.MAX);
+
+        assertEquals("read book", todo.getDescription());
+        assertTrue(todo.isCompleted());
+        assertTrue(todo.isSnoozedForever());
+    }
 }